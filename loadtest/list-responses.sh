@@ -0,0 +1,72 @@
+#!/usr/bin/env bash
+# Bytes on the wire and latency of the user list endpoints, per protocol and encoding.
+#
+#   BASE_URL=http://user-service:8082 SEED=10000 loadtest/list-responses.sh
+#
+# SEED imports that many extra users through POST /api/users/import before measuring.
+# Each variant then walks every GET /api/users page (PAGE_SIZE per page) by cursor and
+# downloads GET /api/users/stream once. VARIANTS picks the protocol/encoding runs.
+# Requires curl (with HTTP/2 support) and jq.
+set -euo pipefail
+
+BASE_URL=${BASE_URL:-http://localhost:8082}
+PAGE_SIZE=${PAGE_SIZE:-200}
+SEED=${SEED:-0}
+VARIANTS=${VARIANTS:-http1 http1-gzip h2c h2c-gzip}
+
+seed_users() {
+  local run
+  run=$(date +%s)
+  awk -v n="$SEED" -v run="$run" 'BEGIN {
+    for (i = 1; i <= n; i++) {
+      printf "{\"id\":\"%08x-%04x-4000-8000-%012x\",\"email\":\"load%d_%d@example.com\",", run, 0, i, run, i
+      printf "\"username\":\"load%d_%d\",\"bio\":\"Collects bottle caps for the community upcycling workshop\"}\n", run, i
+    }
+  }' | curl -sS --fail -X POST -H 'Content-Type: application/x-ndjson' \
+      --data-binary @- "$BASE_URL/api/users/import" | jq -c '.data | del(.errors)'
+}
+
+# Prints "<bytes> <seconds>" per page, following nextCursor until the last page
+walk_pages() {
+  local cursor="" out
+  out=$(mktemp)
+  while :; do
+    local url="$BASE_URL/api/users?size=$PAGE_SIZE"
+    [[ -n "$cursor" ]] && url="$url&cursor=$cursor"
+    curl -sS --fail "$@" -o "$out" \
+        -w '%{size_download} %{time_total}\n' "$url"
+    cursor=$(jq -r '.data.nextCursor // empty' "$out")
+    [[ -z "$cursor" ]] && break
+  done
+  rm -f "$out"
+}
+
+report() {
+  local variant=$1
+  shift
+  walk_pages "$@" | sort -k2 -g | awk -v variant="$variant" '
+    { bytes += $1; secs += $2; t[NR] = $2 }
+    END {
+      p50 = t[int((NR - 1) * 0.50) + 1]; p95 = t[int((NR - 1) * 0.95) + 1]
+      printf "%-12s pages=%d bytes=%d total_s=%.3f page_p50_ms=%.1f page_p95_ms=%.1f\n",
+          variant, NR, bytes, secs, p50 * 1000, p95 * 1000
+    }'
+  curl -sS --fail "$@" -o /dev/null \
+      -w "$(printf '%-12s' "$variant") stream bytes=%{size_download} total_s=%{time_total} http=%{http_version}\n" \
+      "$BASE_URL/api/users/stream"
+}
+
+if (( SEED > 0 )); then
+  seed_users
+fi
+
+# --compressed sends Accept-Encoding: gzip; size_download counts the compressed bytes
+for variant in $VARIANTS; do
+  case $variant in
+    http1)      report "$variant" --http1.1 ;;
+    http1-gzip) report "$variant" --http1.1 --compressed ;;
+    h2c)        report "$variant" --http2-prior-knowledge ;;
+    h2c-gzip)   report "$variant" --http2-prior-knowledge --compressed ;;
+    *)          echo "Unknown variant: $variant" >&2; exit 1 ;;
+  esac
+done
@@ -0,0 +1,74 @@
+package com.greenloop.user_service.benchmark;
+
+import com.greenloop.user_service.UserServiceApplication;
+import com.greenloop.user_service.dtos.CreateUserRequest;
+import com.greenloop.user_service.dtos.UserInterestsResponse;
+import com.greenloop.user_service.enums.Interest;
+import com.greenloop.user_service.services.UserService;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link UserService#addInterests} end to end against the H2 test database.
+ * <p>
+ * {@code addAllInterestsToNewUser} includes creating the user, so it measures
+ * the full insert path; {@code addExistingInterests} measures the read and
+ * diff path taken when nothing new is submitted.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AddInterestsBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private List<String> allInterests;
+    private UUID existingUserId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(UserServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("spring.jpa.show-sql=false", "logging.level.root=WARN")
+                .run();
+        userService = context.getBean(UserService.class);
+        allInterests = Arrays.stream(Interest.values()).map(Interest::name).toList();
+
+        existingUserId = createUser();
+        userService.addInterests(existingUserId, allInterests);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserInterestsResponse addAllInterestsToNewUser() {
+        return userService.addInterests(createUser(), allInterests);
+    }
+
+    @Benchmark
+    public UserInterestsResponse addExistingInterests() {
+        return userService.addInterests(existingUserId, allInterests);
+    }
+
+    private UUID createUser() {
+        UUID id = UUID.randomUUID();
+        userService.createUser(CreateUserRequest.builder().username("bench-" + id).build(), id, id + "@example.com");
+        return id;
+    }
+}
@@ -0,0 +1,157 @@
+package com.greenloop.user_service.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.greenloop.user_service.cache.PreSerializedJson;
+import com.greenloop.user_service.dtos.ApiResponse;
+import com.greenloop.user_service.dtos.UserResponse;
+import com.greenloop.user_service.web.ApiResponseJsonConverter;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Jackson serialization of the response envelopes returned by the controller.
+ * <p>
+ * Uses an {@link ObjectMapper} configured the same way Spring Boot configures
+ * the one behind the MVC message converters. The {@code write*} benchmarks
+ * stream into a reused buffer, once through Spring's Jackson message
+ * converter and once through {@link ApiResponseJsonConverter}, so their
+ * {@code gc.alloc.rate.norm} is the allocation per response. The
+ * {@code *Cbor} benchmarks encode the same envelopes as CBOR, the binary
+ * format internal callers can negotiate instead of JSON.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({ "50" })
+    private int listSize;
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper cborMapper;
+    private MappingJackson2HttpMessageConverter jacksonConverter;
+    private ApiResponseJsonConverter converter;
+    private ApiResponse<UserResponse> single;
+    private ApiResponse<List<UserResponse>> list;
+    private PreSerializedJson preSerialized;
+    private ReusableOutputMessage output;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+        jacksonConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+        converter = new ApiResponseJsonConverter(objectMapper);
+        single = ApiResponse.success("User profile retrieved successfully", BenchmarkFixtures.userResponse());
+        list = ApiResponse.success("Users retrieved successfully",
+                IntStream.range(0, listSize).mapToObj(i -> BenchmarkFixtures.userResponse()).toList());
+        preSerialized = new PreSerializedJson(objectMapper.writeValueAsBytes(single.getData()));
+        output = new ReusableOutputMessage();
+    }
+
+    @Benchmark
+    public byte[] serializeUser() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] serializeUserList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(list);
+    }
+
+    @Benchmark
+    public byte[] serializeUserCbor() throws JsonProcessingException {
+        return cborMapper.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] serializeUserListCbor() throws JsonProcessingException {
+        return cborMapper.writeValueAsBytes(list);
+    }
+
+    @Benchmark
+    public int writeUserWithJacksonConverter() throws IOException {
+        output.reset();
+        jacksonConverter.write(ApiResponse.success("User retrieved successfully", single.getData()),
+                MediaType.APPLICATION_JSON, output);
+        return output.size();
+    }
+
+    @Benchmark
+    public int writeUserWithConverter() throws IOException {
+        output.reset();
+        converter.write(ApiResponse.success("User retrieved successfully", single.getData()),
+                MediaType.APPLICATION_JSON, output);
+        return output.size();
+    }
+
+    @Benchmark
+    public int writePreSerializedUserWithConverter() throws IOException {
+        output.reset();
+        converter.write(ApiResponse.success("User retrieved successfully", preSerialized),
+                MediaType.APPLICATION_JSON, output);
+        return output.size();
+    }
+
+    @Benchmark
+    public int writeUserListWithJacksonConverter() throws IOException {
+        output.reset();
+        jacksonConverter.write(ApiResponse.success("Users retrieved successfully", list.getData()),
+                MediaType.APPLICATION_JSON, output);
+        return output.size();
+    }
+
+    @Benchmark
+    public int writeUserListWithConverter() throws IOException {
+        output.reset();
+        converter.write(ApiResponse.success("Users retrieved successfully", list.getData()),
+                MediaType.APPLICATION_JSON, output);
+        return output.size();
+    }
+
+    /**
+     * Response stand-in whose buffer is kept across invocations, so only the
+     * serialization itself allocates.
+     */
+    private static final class ReusableOutputMessage implements HttpOutputMessage {
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(64 * 1024);
+        private final HttpHeaders headers = new HttpHeaders();
+
+        OutputStream reset() {
+            body.reset();
+            return body;
+        }
+
+        int size() {
+            return body.size();
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.greenloop.user_service.benchmark;
+
+import com.greenloop.user_service.dtos.UserResponse;
+import com.greenloop.user_service.models.User;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Representative profile data shared by the benchmarks.
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    public static User user() {
+        UUID id = UUID.randomUUID();
+        return User.builder()
+                .id(id)
+                .email(id + "@example.com")
+                .username("user-" + id.toString().substring(0, 8))
+                .avatarUrl("https://cdn.greenloop.example/avatars/" + id + ".png")
+                .bio("Weekend beach cleanups and community repair cafes.")
+                .birthDate(LocalDate.of(1995, 6, 15))
+                .joinedDate(LocalDate.of(2024, 3, 1))
+                .eventsAttended(12)
+                .eventsRegistered(15)
+                .build();
+    }
+
+    public static UserResponse userResponse() {
+        User user = user();
+        return UserResponse.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .username(user.getUsername())
+                .avatarUrl(user.getAvatarUrl())
+                .bio(user.getBio())
+                .birthDate(user.getBirthDate())
+                .joinedDate(user.getJoinedDate())
+                .eventsAttended(user.getEventsAttended())
+                .eventsRegistered(user.getEventsRegistered())
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.greenloop.user_service.controllers;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * User ID header parsing in {@link UserController}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserControllerBenchmark {
+
+    private String validUserId;
+    private String invalidUserId;
+
+    @Setup
+    public void setUp() {
+        validUserId = UUID.randomUUID().toString();
+        invalidUserId = "not-a-uuid";
+    }
+
+    @Benchmark
+    public UUID parseUserId() {
+        return UserController.parseUserId(validUserId);
+    }
+
+    @Benchmark
+    public Object parseUserId_Invalid() {
+        try {
+            return UserController.parseUserId(invalidUserId);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
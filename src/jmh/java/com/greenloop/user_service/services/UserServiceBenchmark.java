@@ -0,0 +1,44 @@
+package com.greenloop.user_service.services;
+
+import com.greenloop.user_service.benchmark.BenchmarkFixtures;
+import com.greenloop.user_service.dtos.UserInterestsResponse;
+import com.greenloop.user_service.dtos.UserResponse;
+import com.greenloop.user_service.enums.Interest;
+import com.greenloop.user_service.models.User;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping in {@link UserService}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserServiceBenchmark {
+
+    private User user;
+    private Set<Interest> interests;
+
+    @Setup
+    public void setUp() {
+        user = BenchmarkFixtures.user();
+        interests = EnumSet.allOf(Interest.class);
+    }
+
+    @Benchmark
+    public UserResponse mapToResponse() {
+        return UserService.mapToResponse(user);
+    }
+
+    @Benchmark
+    public UserInterestsResponse mapInterestsResponse() {
+        return UserService.mapInterestsResponse(interests);
+    }
+}
@@ -0,0 +1,32 @@
+package com.greenloop.user_service.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Transport used by replicas to broadcast cache evictions to each other.
+ * <p>
+ * Implementations deliver every published message to every subscriber on
+ * every replica, including the publishing one; filtering out self-originated
+ * messages is left to subscribers. Selected with
+ * {@code user-service.cache.invalidation.channel}.
+ * </p>
+ *
+ * @see PostgresCacheInvalidationChannel
+ * @see InMemoryCacheInvalidationChannel
+ */
+public interface CacheInvalidationChannel {
+
+    /**
+     * Broadcasts an eviction to all replicas. Never throws; delivery is best effort.
+     *
+     * @param message eviction to broadcast
+     */
+    void publish(CacheInvalidationMessage message);
+
+    /**
+     * Registers a callback for evictions broadcast by any replica.
+     *
+     * @param subscriber callback invoked once per received message
+     */
+    void subscribe(Consumer<CacheInvalidationMessage> subscriber);
+}
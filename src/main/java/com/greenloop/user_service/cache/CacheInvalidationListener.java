@@ -0,0 +1,83 @@
+package com.greenloop.user_service.cache;
+
+import java.util.*;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps per-replica caches consistent across the deployment.
+ * <p>
+ * After a write commits, the affected user IDs are broadcast on the
+ * {@link CacheInvalidationChannel}. Messages received from other replicas
+ * evict those IDs from every cache in the {@link CacheManager}; all caches are
+ * keyed by user ID. Messages this replica sent itself are ignored, because its
+ * own caches were already refreshed by the service layer. Other in-memory
+ * structures can react to remote changes by listening for
+ * {@link RemoteUserChangedEvent}.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationListener {
+
+    private final CacheInvalidationChannel channel;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @PostConstruct
+    void subscribe() {
+        channel.subscribe(this::onMessage);
+    }
+
+    /**
+     * Broadcasts committed user changes to the other replicas.
+     *
+     * @param event IDs of the users whose data changed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        channel.publish(new CacheInvalidationMessage(nodeId, event.getUserIds()));
+    }
+
+    /**
+     * Applies an eviction broadcast by another replica to the local caches.
+     *
+     * @param message received eviction
+     */
+    void onMessage(CacheInvalidationMessage message) {
+        if (nodeId.equals(message.getOriginNodeId())) {
+            return;
+        }
+        evict(message.getUserIds());
+        eventPublisher.publishEvent(new RemoteUserChangedEvent(message.getUserIds()));
+        log.debug("Applied cache invalidation from {} for {} user(s)", message.getOriginNodeId(),
+                message.isInvalidateAll() ? "all" : message.getUserIds().size());
+    }
+
+    /**
+     * Evicts the given users from every cache, or clears all caches when the list is empty.
+     */
+    private void evict(List<UUID> userIds) {
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache == null) {
+                continue;
+            }
+            if (userIds.isEmpty()) {
+                cache.clear();
+            } else {
+                userIds.forEach(cache::evict);
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.greenloop.user_service.cache;
+
+import java.util.*;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Cache eviction broadcast between replicas.
+ * <p>
+ * An empty {@code userIds} list means every cached entry must be dropped, which
+ * channels use after they may have missed messages (e.g. a reconnect).
+ * </p>
+ */
+@Getter
+@AllArgsConstructor
+public class CacheInvalidationMessage {
+    private final String originNodeId;
+    private final List<UUID> userIds;
+
+    public boolean isInvalidateAll() {
+        return userIds.isEmpty();
+    }
+}
@@ -0,0 +1,208 @@
+package com.greenloop.user_service.cache;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache invalidation channel backed by PostgreSQL LISTEN/NOTIFY.
+ * <p>
+ * Messages are sent with {@code pg_notify} on a pooled connection. A single
+ * background thread holds a dedicated, unpooled connection that LISTENs on the
+ * channel, so listening never starves the Hikari pool. Payloads are
+ * {@code origin|id,id,...} and are split to stay under the 8000 byte NOTIFY
+ * limit.
+ * </p>
+ * <p>
+ * NOTIFY is not durable: if the listening connection drops, messages sent
+ * while it was down are lost. After every reconnect subscribers therefore
+ * receive an invalidate-all message. The first LISTEN is issued while the
+ * application starts, before caches are filled and the interest index is
+ * built, so the first connect sends none.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "user-service.cache.invalidation.channel", havingValue = "postgres", matchIfMissing = true)
+public class PostgresCacheInvalidationChannel implements CacheInvalidationChannel, SmartLifecycle {
+
+    private static final int IDS_PER_NOTIFICATION = 150;
+    private static final int POLL_TIMEOUT_MS = 5000;
+    private static final long RECONNECT_DELAY_MS = 2000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final String channelName;
+    private final List<Consumer<CacheInvalidationMessage>> subscribers = new CopyOnWriteArrayList<>();
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public PostgresCacheInvalidationChannel(JdbcTemplate jdbcTemplate, DataSourceProperties dataSourceProperties,
+            @Value("${user-service.cache.invalidation.postgres-channel:user_cache_invalidation}") String channelName) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.channelName = channelName;
+    }
+
+    @Override
+    public void publish(CacheInvalidationMessage message) {
+        List<UUID> ids = message.getUserIds();
+        try {
+            if (ids.isEmpty()) {
+                notify(message.getOriginNodeId() + "|");
+                return;
+            }
+            for (int from = 0; from < ids.size(); from += IDS_PER_NOTIFICATION) {
+                List<UUID> chunk = ids.subList(from, Math.min(from + IDS_PER_NOTIFICATION, ids.size()));
+                StringJoiner payload = new StringJoiner(",", message.getOriginNodeId() + "|", "");
+                chunk.forEach(id -> payload.add(id.toString()));
+                notify(payload.toString());
+            }
+        } catch (RuntimeException e) {
+            // Writes have already committed; a lost broadcast only delays convergence until TTL expiry
+            log.warn("Failed to publish cache invalidation for {} user(s)", ids.size(), e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Connection initial = null;
+        try {
+            initial = listen();
+        } catch (SQLException e) {
+            log.warn("Could not listen for cache invalidations at startup; retrying in the background", e);
+        }
+        Connection connection = initial;
+        listenerThread = new Thread(() -> listenLoop(connection), "cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void notify(String payload) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, channelName, payload);
+    }
+
+    private Connection listen() throws SQLException {
+        Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + channelName);
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        log.info("Listening for cache invalidations on channel {}", channelName);
+        return connection;
+    }
+
+    /**
+     * Polls for notifications until stopped, reconnecting when the connection drops.
+     *
+     * @param initial connection opened by {@link #start()}, or null if that attempt failed
+     */
+    private void listenLoop(Connection initial) {
+        Connection connection = initial;
+        while (running) {
+            try {
+                if (connection == null) {
+                    connection = listen();
+                    // Anything published while we were not listening is lost, so start from a clean slate
+                    dispatch(new CacheInvalidationMessage("", List.of()));
+                }
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(parse(notification.getParameter()));
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                close(connection);
+                connection = null;
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache invalidation listener disconnected; retrying in {} ms", RECONNECT_DELAY_MS, e);
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+        close(connection);
+    }
+
+    private static void close(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Failed to close cache invalidation connection", e);
+        }
+    }
+
+    private void dispatch(CacheInvalidationMessage message) {
+        for (Consumer<CacheInvalidationMessage> subscriber : subscribers) {
+            try {
+                subscriber.accept(message);
+            } catch (RuntimeException e) {
+                log.warn("Cache invalidation subscriber failed", e);
+            }
+        }
+    }
+
+    private CacheInvalidationMessage parse(String payload) {
+        int separator = payload.indexOf('|');
+        String origin = payload.substring(0, separator);
+        String idList = payload.substring(separator + 1);
+        if (idList.isEmpty()) {
+            return new CacheInvalidationMessage(origin, List.of());
+        }
+        List<UUID> ids = Arrays.stream(idList.split(","))
+                .map(UUID::fromString)
+                .toList();
+        return new CacheInvalidationMessage(origin, ids);
+    }
+}
@@ -0,0 +1,181 @@
+package com.greenloop.user_service.cache;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * A JSON value serialized ahead of time and embedded into responses verbatim.
+ * <p>
+ * Jackson's UTF-8 generator copies the bytes straight into its output buffer,
+ * so writing a cached value costs neither serialization nor allocation.
+ * Character-based generators and the quoted forms fall back to decoding the
+ * bytes, which only happens outside the HTTP response path.
+ * </p>
+ * <p>
+ * Generators for other formats, such as CBOR, cannot take raw JSON. For them
+ * a value created with its source type is read back into that type and
+ * serialized normally, so it is encoded exactly like the original object
+ * (CBOR writes UUIDs as binary, for example). Untyped values are copied
+ * token by token. Either way this costs more than serializing the original
+ * object, so callers that know the response is not JSON should send the
+ * object instead.
+ * </p>
+ */
+@Schema(type = "object")
+@JsonSerialize(using = PreSerializedJson.Serializer.class)
+public final class PreSerializedJson implements SerializableString {
+
+    private final byte[] utf8;
+    private final Class<?> type;
+
+    public PreSerializedJson(byte[] utf8) {
+        this(utf8, null);
+    }
+
+    /**
+     * @param utf8 JSON encoding of the value
+     * @param type class the value was serialized from, used to re-encode it in other formats
+     */
+    public PreSerializedJson(byte[] utf8, Class<?> type) {
+        this.utf8 = utf8;
+        this.type = type;
+    }
+
+    /**
+     * @return size of the encoded value in bytes
+     */
+    public int byteLength() {
+        return utf8.length;
+    }
+
+    @Override
+    public String getValue() {
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int charLength() {
+        return getValue().length();
+    }
+
+    @Override
+    public byte[] asUnquotedUTF8() {
+        // Shared, not copied; callers of SerializableString must not modify it
+        return utf8;
+    }
+
+    @Override
+    public int appendUnquotedUTF8(byte[] buffer, int offset) {
+        if (offset + utf8.length > buffer.length) {
+            return -1;
+        }
+        System.arraycopy(utf8, 0, buffer, offset, utf8.length);
+        return utf8.length;
+    }
+
+    @Override
+    public int appendUnquoted(char[] buffer, int offset) {
+        String value = getValue();
+        if (offset + value.length() > buffer.length) {
+            return -1;
+        }
+        value.getChars(0, value.length(), buffer, offset);
+        return value.length();
+    }
+
+    @Override
+    public int writeUnquotedUTF8(OutputStream out) throws IOException {
+        out.write(utf8);
+        return utf8.length;
+    }
+
+    @Override
+    public int putUnquotedUTF8(ByteBuffer buffer) {
+        if (buffer.remaining() < utf8.length) {
+            return -1;
+        }
+        buffer.put(utf8);
+        return utf8.length;
+    }
+
+    @Override
+    public char[] asQuotedChars() {
+        return quoted().asQuotedChars();
+    }
+
+    @Override
+    public byte[] asQuotedUTF8() {
+        return quoted().asQuotedUTF8();
+    }
+
+    @Override
+    public int appendQuotedUTF8(byte[] buffer, int offset) {
+        return quoted().appendQuotedUTF8(buffer, offset);
+    }
+
+    @Override
+    public int appendQuoted(char[] buffer, int offset) {
+        return quoted().appendQuoted(buffer, offset);
+    }
+
+    @Override
+    public int writeQuotedUTF8(OutputStream out) throws IOException {
+        return quoted().writeQuotedUTF8(out);
+    }
+
+    @Override
+    public int putQuotedUTF8(ByteBuffer buffer) throws IOException {
+        return quoted().putQuotedUTF8(buffer);
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+
+    private SerializedString quoted() {
+        return new SerializedString(getValue());
+    }
+
+    static class Serializer extends StdSerializer<PreSerializedJson> {
+
+        private static final JsonFactory JSON = new JsonFactory();
+
+        Serializer() {
+            super(PreSerializedJson.class);
+        }
+
+        @Override
+        public void serialize(PreSerializedJson value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            if (gen instanceof JsonGeneratorImpl) {
+                gen.writeRawValue(value);
+                return;
+            }
+            try (JsonParser parser = JSON.createParser(value.utf8)) {
+                ObjectCodec codec = gen.getCodec();
+                if (value.type != null && codec != null) {
+                    provider.defaultSerializeValue(codec.readValue(parser, value.type), gen);
+                    return;
+                }
+                parser.nextToken();
+                gen.copyCurrentStructure(parser);
+            }
+        }
+    }
+}
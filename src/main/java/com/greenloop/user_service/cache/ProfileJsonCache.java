@@ -0,0 +1,68 @@
+package com.greenloop.user_service.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.greenloop.user_service.configs.CacheConfig;
+import com.greenloop.user_service.dtos.UserResponse;
+
+/**
+ * Caches user profiles as serialized JSON, tagged with the version they were
+ * serialized at.
+ * <p>
+ * A hit needs no Jackson serialization at all: the bytes are embedded into the
+ * response envelope as they are (see {@link PreSerializedJson}). Callers pass
+ * the profile they are about to serve, so entries never need to be evicted on
+ * writes; an entry for another version is simply replaced. Entries of users changed on other
+ * replicas are still evicted by {@link CacheInvalidationListener}, like every
+ * cache keyed by user ID, which keeps dead entries from lingering.
+ * </p>
+ */
+@Component
+public class ProfileJsonCache {
+
+    private final Cache cache;
+    private final ObjectMapper objectMapper;
+
+    public ProfileJsonCache(CacheManager cacheManager, ObjectMapper objectMapper) {
+        this.cache = cacheManager.getCache(CacheConfig.USER_PROFILE_JSON);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns a profile serialized as JSON, serializing it only if no entry
+     * for the profile's version is cached.
+     *
+     * @param profile profile to serve
+     * @return the profile's JSON
+     */
+    public PreSerializedJson get(UserResponse profile) {
+        CachedProfile cached = cache.get(profile.getId(), CachedProfile.class);
+        if (cached != null && cached.version() == profile.getVersion()) {
+            return cached.json();
+        }
+        PreSerializedJson json = serialize(profile);
+        cache.put(profile.getId(), new CachedProfile(profile.getVersion(), json));
+        return json;
+    }
+
+    private PreSerializedJson serialize(UserResponse profile) {
+        try {
+            return new PreSerializedJson(objectMapper.writeValueAsBytes(profile), UserResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize profile of user " + profile.getId(), e);
+        }
+    }
+
+    /**
+     * A profile serialized at a given version.
+     *
+     * @param version version of the user the JSON reflects
+     * @param json    serialized UserResponse
+     */
+    public record CachedProfile(long version, PreSerializedJson json) {
+    }
+}
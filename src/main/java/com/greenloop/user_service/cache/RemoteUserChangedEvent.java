@@ -0,0 +1,20 @@
+package com.greenloop.user_service.cache;
+
+import java.util.*;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Application event raised when another replica reports that user data
+ * changed. An empty {@code userIds} list means any user may have changed.
+ */
+@Getter
+@AllArgsConstructor
+public class RemoteUserChangedEvent {
+    private final List<UUID> userIds;
+
+    public boolean isAllUsers() {
+        return userIds.isEmpty();
+    }
+}
@@ -0,0 +1,28 @@
+package com.greenloop.user_service.cache;
+
+import java.util.*;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Application event raised by the service layer when persisted user or
+ * interest data changes. Handled after the surrounding transaction commits.
+ * <p>
+ * This replica's cache entries are refreshed or evicted by the service layer
+ * itself; the event only carries the change to other replicas.
+ * </p>
+ */
+@Getter
+@AllArgsConstructor
+public class UserChangedEvent {
+    private final List<UUID> userIds;
+
+    public static UserChangedEvent of(UUID userId) {
+        return new UserChangedEvent(List.of(userId));
+    }
+
+    public static UserChangedEvent of(List<UUID> userIds) {
+        return new UserChangedEvent(userIds);
+    }
+}
@@ -0,0 +1,43 @@
+package com.greenloop.user_service.cache;
+
+import java.util.function.Function;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * Caffeine cache whose puts never replace a value with an older version of it.
+ * <p>
+ * Puts are deferred until their transaction commits, so two concurrent writes
+ * to the same user can reach the cache in the opposite order to their commits.
+ * Comparing versions keeps the later commit's value instead of whichever put
+ * ran last. Values without a known version always replace the current one.
+ * </p>
+ */
+public class VersionedCaffeineCache extends CaffeineCache {
+
+    private final Function<Object, Long> versionOf;
+
+    /**
+     * @param name      cache name
+     * @param cache     backing Caffeine cache
+     * @param versionOf extracts the version of a cached value, or null if it has none
+     */
+    public VersionedCaffeineCache(String name, Cache<Object, Object> cache, Function<Object, Long> versionOf) {
+        super(name, cache, true);
+        this.versionOf = versionOf;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        getNativeCache().asMap().merge(key, toStoreValue(value),
+                (current, candidate) -> isOlder(candidate, current) ? current : candidate);
+    }
+
+    private boolean isOlder(Object candidate, Object current) {
+        Long candidateVersion = versionOf.apply(candidate);
+        Long currentVersion = versionOf.apply(current);
+        return candidateVersion != null && currentVersion != null && candidateVersion < currentVersion;
+    }
+}
@@ -0,0 +1,79 @@
+package com.greenloop.user_service.configs;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.greenloop.user_service.cache.ProfileJsonCache;
+import com.greenloop.user_service.cache.VersionedCaffeineCache;
+import com.greenloop.user_service.dtos.UserResponse;
+
+/**
+ * In-process cache configuration for user profiles.
+ * <p>
+ * Profiles are held in a bounded Caffeine cache whose size and TTL come from
+ * {@code user-service.cache.profiles.spec}. Their serialized JSON is held in a
+ * second cache for {@link ProfileJsonCache}, bounded by total bytes rather
+ * than entry count. The cache manager is wrapped so puts and evictions issued
+ * inside a transaction are only applied after it commits, which keeps
+ * rolled-back writes out of the cache, and a put never replaces a newer
+ * version of a profile with an older one. Hit, miss and eviction counts are
+ * published as {@code cache.*} metrics through Actuator.
+ * </p>
+ * <p>
+ * Caching advice runs outside transactional advice, so a cache hit never
+ * opens a transaction or borrows a pooled connection.
+ * </p>
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    public static final String USER_PROFILES = "userProfiles";
+    public static final String USER_PROFILE_JSON = "userProfileJson";
+
+    // Approximate per-entry overhead of the key, entry and array headers
+    private static final int JSON_ENTRY_OVERHEAD_BYTES = 128;
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${user-service.cache.profiles.spec:maximumSize=10000,expireAfterWrite=10m,recordStats}") String spec,
+            @Value("${user-service.cache.profile-json.max-bytes:67108864}") long jsonMaxBytes,
+            @Value("${user-service.cache.profile-json.ttl:10m}") Duration jsonTtl) {
+        // Fixed cache names only; unknown names fail fast instead of creating unbounded caches
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager(USER_PROFILES) {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new VersionedCaffeineCache(name, cache, CacheConfig::versionOf);
+            }
+        };
+        caffeineCacheManager.setCacheSpecification(spec);
+        caffeineCacheManager.registerCustomCache(USER_PROFILE_JSON, Caffeine.newBuilder()
+                .maximumWeight(jsonMaxBytes)
+                .weigher((key, value) -> JSON_ENTRY_OVERHEAD_BYTES
+                        + ((ProfileJsonCache.CachedProfile) value).json().byteLength())
+                .expireAfterWrite(jsonTtl)
+                .recordStats()
+                .build());
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+
+    private static Long versionOf(Object value) {
+        if (value instanceof UserResponse profile) {
+            return profile.getVersion();
+        }
+        if (value instanceof ProfileJsonCache.CachedProfile profile) {
+            return profile.version();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,13 @@
+package com.greenloop.user_service.configs;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.annotation.EnableRetry;
+
+/**
+ * Enables {@code @Retryable} service methods such as optimistic-lock retries of profile updates.
+ * The retry advice runs outside the transaction, so every attempt starts a fresh one.
+ */
+@Configuration
+@EnableRetry
+public class RetryConfig {
+}
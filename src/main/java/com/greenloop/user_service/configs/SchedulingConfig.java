@@ -0,0 +1,13 @@
+package com.greenloop.user_service.configs;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background work such as write-behind flushes.
+ * Tasks run on Spring Boot's auto-configured {@code TaskScheduler}.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,60 @@
+package com.greenloop.user_service.configs;
+
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.greenloop.user_service.web.ApiResponseJsonConverter;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Spring MVC customizations.
+ * <p>
+ * Puts {@link ApiResponseJsonConverter} ahead of the default converters, so
+ * JSON response envelopes skip Jackson's bean serialization of the envelope.
+ * </p>
+ * <p>
+ * Internal callers can exchange CBOR ({@code application/cbor}) instead of
+ * JSON by sending it as Accept or Content-Type. The CBOR mapper is built
+ * from the same {@link Jackson2ObjectMapperBuilder} as the JSON one, so
+ * both encode the same fields. The CBOR converter comes after the JSON
+ * ones, which keeps JSON the default for {@code Accept: *}{@code /*} and
+ * requests without an Accept header.
+ * </p>
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new ApiResponseJsonConverter(objectMapper));
+
+        // Replaces Spring's default CBOR converter, whose mapper ignores the spring.jackson.* settings
+        MappingJackson2CborHttpMessageConverter cbor = new MappingJackson2CborHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new CBORFactory()).build());
+        int index = -1;
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2CborHttpMessageConverter) {
+                index = i;
+                break;
+            }
+        }
+        if (index >= 0) {
+            converters.set(index, cbor);
+        } else {
+            converters.add(cbor);
+        }
+    }
+}
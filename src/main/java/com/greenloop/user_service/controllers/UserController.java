@@ -1,15 +1,34 @@
 package com.greenloop.user_service.controllers;
 
+import com.greenloop.user_service.cache.ProfileJsonCache;
 import com.greenloop.user_service.dtos.*;
+import com.greenloop.user_service.enums.ExportFormat;
+import com.greenloop.user_service.enums.ImportFormat;
+import com.greenloop.user_service.enums.InterestMatch;
 import com.greenloop.user_service.services.*;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.*;
 
 /**
@@ -33,8 +52,23 @@ import java.util.*;
 public class UserController {
 
     private final UserService userService;
+    private final EventCounterBuffer eventCounterBuffer;
+    private final UserImportService userImportService;
+    private final UserExportService userExportService;
+    private final ProfileJsonCache profileJsonCache;
+    private final ContentNegotiationManager contentNegotiationManager;
+    private final ObjectMapper objectMapper;
     // private final RecommendationService recommendationService;
 
+    @Value("${user-service.pagination.max-size:200}")
+    private int maxPageSize;
+
+    @Value("${user-service.batch.max-ids:5000}")
+    private int maxBatchIds;
+
+    @Value("${user-service.counters.max-delta:10000}")
+    private int maxCounterDelta;
+
     /**
      * Creates a new user profile.
      *
@@ -56,60 +90,243 @@ public class UserController {
     }
 
     /**
-     * Retrieves all user profiles.
+     * Creates many user profiles from a CSV or NDJSON upload.
+     * <p>
+     * The body is streamed and inserted in chunks, so uploads of any size are
+     * accepted. Invalid or conflicting rows are skipped and listed in the
+     * report; all other rows are created.
+     * </p>
      *
-     * @return list of all users wrapped in ApiResponse
+     * @param contentType text/csv (with a header row) or application/x-ndjson
+     * @param body        upload with id, email, username, avatarUrl, bio and
+     *                    birthDate per row
+     * @return created and failed row counts with per-row errors wrapped in ApiResponse
+     * @throws IOException if the upload cannot be read
+     */
+    @PostMapping(value = "/import", consumes = { "text/csv", MediaType.APPLICATION_NDJSON_VALUE })
+    public ResponseEntity<ApiResponse<ImportReport>> importUsers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+        ImportFormat format = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                ? ImportFormat.NDJSON
+                : ImportFormat.CSV;
+        ImportReport report = userImportService.importUsers(body, format);
+        return ResponseEntity.ok(ApiResponse.success("User import finished", report));
+    }
+
+    /**
+     * Retrieves one page of user profiles, ordered by join date.
+     *
+     * @param cursor opaque cursor returned as nextCursor by the previous page;
+     *               omit for the first page
+     * @param size   page size, capped at user-service.pagination.max-size
+     * @return page of users and the cursor for the next page wrapped in ApiResponse
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<UserResponse>>> getAllUsers() {
-        List<UserResponse> response = userService.getAllUsers();
+    public ResponseEntity<ApiResponse<UserPageResponse>> getAllUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "${user-service.pagination.default-size:50}") int size) {
+
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be positive: " + size);
+        }
+        UserPageResponse response = userService.getUsersPage(cursor, Math.min(size, maxPageSize));
         return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", response));
     }
 
+    /**
+     * Streams all user profiles as newline-delimited JSON.
+     * <p>
+     * Each line is one UserResponse, written as soon as the row is read from
+     * the database, so the response is never buffered in memory.
+     * </p>
+     *
+     * @return NDJSON stream of all users
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllUsers() {
+        StreamingResponseBody body = out -> userService.streamAllUsers(user -> writeLine(out, user));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Exports every user profile straight from the database with PostgreSQL COPY.
+     *
+     * @param format CSV (default, with header row) or BINARY (PostgreSQL COPY binary format)
+     * @return stream of all user rows
+     */
+    @GetMapping("/export/users")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam(defaultValue = "CSV") ExportFormat format) {
+        userExportService.requireCopySupport();
+        return exportResponse("users", format, out -> userExportService.exportUsers(format, out));
+    }
+
+    /**
+     * Exports every (user, interest) pair straight from the database with PostgreSQL COPY.
+     *
+     * @param format CSV (default, with header row) or BINARY (PostgreSQL COPY binary format)
+     * @return stream of all user interest rows
+     */
+    @GetMapping("/export/interests")
+    public ResponseEntity<StreamingResponseBody> exportInterests(
+            @RequestParam(defaultValue = "CSV") ExportFormat format) {
+        userExportService.requireCopySupport();
+        return exportResponse("user_interests", format, out -> userExportService.exportInterests(format, out));
+    }
+
     /**
      * Retrieves the authenticated user's profile.
+     * <p>
+     * The response carries the user's version as a strong ETag. The version
+     * is taken from the cached profile rather than read from the database,
+     * so a cache hit, including a 304 Not Modified for a matching
+     * If-None-Match, costs no round trip. Writes on this replica replace the
+     * cached profile with a versioned put, and writes on other replicas evict
+     * it through the cache invalidation bus. A JSON profile is served
+     * pre-serialized at its version, so only the envelope is rendered per
+     * request. Clients that prefer CBOR get the cached profile object
+     * encoded directly, since pre-serialized JSON would have to be parsed
+     * back first.
+     * </p>
      *
-     * @param userId authenticated user ID from gateway (X-User-ID header)
-     * @return user profile wrapped in ApiResponse
+     * @param userId      authenticated user ID from gateway (X-User-ID header)
+     * @param ifNoneMatch entity tags the client already holds (If-None-Match header)
+     * @param request     current request, for the negotiated response format
+     * @return user profile wrapped in ApiResponse, or 304 with no body
+     * @throws HttpMediaTypeNotAcceptableException if the Accept header cannot be parsed
      */
     @GetMapping("/profile")
-    public ResponseEntity<ApiResponse<UserResponse>> getUserProfile(
-            @RequestHeader("X-User-ID") String userId) {
+    public ResponseEntity<ApiResponse<?>> getUserProfile(
+            @RequestHeader("X-User-ID") String userId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) List<String> ifNoneMatch,
+            NativeWebRequest request) throws HttpMediaTypeNotAcceptableException {
 
-        UserResponse response = userService.getUserById(parseUserId(userId));
-        return ResponseEntity.ok(ApiResponse.success("User retrieved successfully", response));
+        UserResponse profile = userService.getUserById(parseUserId(userId));
+        String currentTag = versionTag(profile.getVersion());
+        if (matchesAny(ifNoneMatch, currentTag)) {
+            return notModified(currentTag);
+        }
+        Object body = prefersCbor(request) ? profile : profileJsonCache.get(profile);
+        return ResponseEntity.ok()
+                .eTag(currentTag)
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success("User retrieved successfully", body));
+    }
+
+    /**
+     * Retrieves the profiles of many users in one call.
+     *
+     * @param ids user IDs to resolve (at most user-service.batch.max-ids)
+     * @return one entry per requested ID, in request order; unknown IDs have
+     *         found=false, wrapped in ApiResponse
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<List<BatchUserResult>>> getUsersBatch(@RequestBody List<UUID> ids) {
+        if (ids.size() > maxBatchIds) {
+            throw new IllegalArgumentException("At most " + maxBatchIds + " user IDs can be requested at once");
+        }
+        List<BatchUserResult> response = userService.getUsersByIds(ids);
+        return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", response));
     }
 
     /**
      * Updates the authenticated user's profile (username, bio, birth date).
+     * <p>
+     * With an If-Match header holding the ETag of the profile the client
+     * edited, the update is rejected with 409 Conflict and the current
+     * profile if the user has changed since. Without one, concurrent edits
+     * of other fields are merged.
+     * </p>
      *
      * @param userId  authenticated user ID from gateway (X-User-ID header)
+     * @param ifMatch ETag the client last saw (If-Match header), optional
      * @param request partial update with non-null fields to modify
      * @return updated user profile wrapped in ApiResponse
      */
     @PutMapping("/profile")
     public ResponseEntity<ApiResponse<UserResponse>> updateUserProfile(
             @RequestHeader("X-User-ID") String userId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateUserRequest request) {
 
-        UserResponse response = userService.updateUser(parseUserId(userId), request);
-        return ResponseEntity.ok(ApiResponse.success("User updated successfully", response));
+        UserResponse response = userService.updateUser(parseUserId(userId), request, parseVersionTag(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(versionTag(response.getVersion()))
+                .body(ApiResponse.success("User updated successfully", response));
     }
 
     /**
      * Updates the authenticated user's avatar URL.
+     * <p>
+     * Honours If-Match the same way as the profile update.
+     * </p>
      *
      * @param userId  authenticated user ID from gateway (X-User-ID header)
+     * @param ifMatch ETag the client last saw (If-Match header), optional
      * @param request new avatar URL
      * @return updated user profile wrapped in ApiResponse
      */
     @PatchMapping("/avatar")
     public ResponseEntity<ApiResponse<UserResponse>> updateUserAvatar(
             @RequestHeader("X-User-ID") String userId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateAvatarRequest request) {
 
-        UserResponse response = userService.updateAvatar(parseUserId(userId), request);
-        return ResponseEntity.ok(ApiResponse.success("Avatar updated successfully", response));
+        UserResponse response = userService.updateAvatar(parseUserId(userId), request, parseVersionTag(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(versionTag(response.getVersion()))
+                .body(ApiResponse.success("Avatar updated successfully", response));
+    }
+
+    /**
+     * Adjusts a user's event counters atomically, e.g. on event check-in.
+     *
+     * @param userId  ID of the user whose counters change
+     * @param request deltas for eventsAttended and eventsRegistered (may be negative)
+     * @return updated user profile wrapped in ApiResponse
+     */
+    @PatchMapping("/{userId}/counters")
+    public ResponseEntity<ApiResponse<UserResponse>> adjustEventCounters(
+            @PathVariable String userId,
+            @RequestBody EventCounterRequest request) {
+
+        validateCounterDeltas(request.getAttendedDelta(), request.getRegisteredDelta());
+        UserResponse response = userService.adjustEventCounters(parseUserId(userId), request);
+        return ResponseEntity.ok(ApiResponse.success("Event counters updated successfully", response));
+    }
+
+    /**
+     * Adjusts the event counters of many users in one call.
+     *
+     * @param updates per-user deltas (at most user-service.batch.max-ids entries)
+     * @return number of users requested and updated wrapped in ApiResponse
+     */
+    @PatchMapping("/counters")
+    public ResponseEntity<ApiResponse<EventCounterBulkResponse>> adjustEventCountersBulk(
+            @RequestBody List<EventCounterUpdate> updates) {
+        validateCounterUpdates(updates);
+        EventCounterBulkResponse response = userService.adjustEventCounters(updates);
+        return ResponseEntity.ok(ApiResponse.success("Event counters updated successfully", response));
+    }
+
+    /**
+     * Queues event counter deltas for write-behind.
+     * <p>
+     * Deltas are coalesced per user and written in bulk shortly afterwards, so
+     * profile reads may briefly show the previous counts. Use this for high
+     * volume check-ins where the caller does not need the updated profile.
+     * </p>
+     *
+     * @param updates per-user deltas (at most user-service.batch.max-ids entries)
+     * @return 202 Accepted once the deltas are buffered
+     */
+    @PostMapping("/counters/deferred")
+    public ResponseEntity<ApiResponse<Void>> queueEventCounters(@RequestBody List<EventCounterUpdate> updates) {
+        validateCounterUpdates(updates);
+        eventCounterBuffer.record(updates);
+        return ResponseEntity.accepted().body(ApiResponse.success("Event counter updates accepted", null));
     }
 
     /**
@@ -126,14 +343,30 @@ public class UserController {
 
     /**
      * Retrieves the user's tracked interests.
+     * <p>
+     * Tagged and answered with 304 Not Modified the same way as the profile.
+     * </p>
      *
-     * @param userId authenticated user ID from gateway (X-User-ID header)
-     * @return list of user interests wrapped in ApiResponse
+     * @param userId      authenticated user ID from gateway (X-User-ID header)
+     * @param ifNoneMatch entity tags the client already holds (If-None-Match header)
+     * @return list of user interests wrapped in ApiResponse, or 304 with no body
      */
     @GetMapping("/interests")
-    public ResponseEntity<ApiResponse<UserInterestsResponse>> getInterests(@RequestHeader("X-User-ID") String userId) {
-        UserInterestsResponse response = userService.getInterests(parseUserId(userId));
-        return ResponseEntity.ok(ApiResponse.success("User interests retrieved successfully", response));
+    public ResponseEntity<ApiResponse<UserInterestsResponse>> getInterests(
+            @RequestHeader("X-User-ID") String userId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) List<String> ifNoneMatch) {
+
+        UUID id = parseUserId(userId);
+        // Read before the interests, so a concurrent change can only make the tag older than the body
+        String currentTag = versionTag(userService.getUserVersion(id));
+        if (matchesAny(ifNoneMatch, currentTag)) {
+            return notModified(currentTag);
+        }
+        UserInterestsResponse response = userService.getInterests(id);
+        return ResponseEntity.ok()
+                .eTag(currentTag)
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success("User interests retrieved successfully", response));
     }
 
     /**
@@ -153,10 +386,162 @@ public class UserController {
                 .body(ApiResponse.success("User interests retrieved successfully", response));
     }
 
+    /**
+     * Searches users by username, for "find friends" autocomplete.
+     *
+     * @param q    username or its beginning; case-insensitive, tolerates small typos
+     * @param page zero-based page number
+     * @param size page size, capped at user-service.pagination.max-size
+     * @return matching users (ID, username, avatar) wrapped in ApiResponse
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<UserSearchResponse>> searchUsers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("Page must be non-negative and size positive");
+        }
+        UserSearchResponse response = userService.searchUsers(q, page, Math.min(size, maxPageSize));
+        return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", response));
+    }
+
+    /**
+     * Finds users who follow the given interests.
+     *
+     * @param interests interests to match (e.g., TREE_PLANTING,CLEANUPS)
+     * @param match     ALL (default) to require every interest, ANY for at least one
+     * @param cursor    cursor returned as nextCursor by the previous page;
+     *                  omit for the first page
+     * @param size      page size, capped at user-service.pagination.max-size
+     * @return matching user IDs in user-ID order, the total match count and the
+     *         cursor for the next page wrapped in ApiResponse
+     */
+    @GetMapping("/by-interest")
+    public ResponseEntity<ApiResponse<InterestMatchResponse>> findUsersByInterests(
+            @RequestParam List<String> interests,
+            @RequestParam(defaultValue = "ALL") InterestMatch match,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "${user-service.pagination.default-size:50}") int size) {
+
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be positive: " + size);
+        }
+        InterestMatchResponse response = userService.findUsersByInterests(interests, match, cursor,
+                Math.min(size, maxPageSize));
+        return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", response));
+    }
+
+    /**
+     * Wraps an export as a file download in the requested format.
+     */
+    private ResponseEntity<StreamingResponseBody> exportResponse(String name, ExportFormat format,
+            StreamingResponseBody body) {
+        boolean binary = format == ExportFormat.BINARY;
+        return ResponseEntity.ok()
+                .contentType(binary ? MediaType.APPLICATION_OCTET_STREAM : MediaType.parseMediaType("text/csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + name + (binary ? ".pgcopy" : ".csv") + "\"")
+                .body(body);
+    }
+
+    /**
+     * Formats a user version as the strong ETag sent with profiles and interests.
+     */
+    private static String versionTag(long version) {
+        return "\"v" + version + "\"";
+    }
+
+    /**
+     * Ranks the acceptable types the way message conversion does and reports whether CBOR comes before JSON.
+     */
+    private boolean prefersCbor(NativeWebRequest request) throws HttpMediaTypeNotAcceptableException {
+        List<MediaType> acceptable = new ArrayList<>(contentNegotiationManager.resolveMediaTypes(request));
+        MimeTypeUtils.sortBySpecificity(acceptable);
+        for (MediaType type : acceptable) {
+            if (type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return false;
+            }
+            if (type.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads the version out of an If-Match header; {@code *} and no header impose no version.
+     */
+    private static Long parseVersionTag(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.strip().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.strip();
+        if (!tag.matches("\"v\\d{1,18}\"")) {
+            throw new IllegalArgumentException("If-Match must hold a single ETag returned by this service: " + ifMatch);
+        }
+        return Long.parseLong(tag.substring(2, tag.length() - 1));
+    }
+
+    /**
+     * Applies the weak comparison RFC 9110 prescribes for If-None-Match.
+     */
+    private static boolean matchesAny(List<String> ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        return ifNoneMatch.stream()
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(eTag));
+    }
+
+    private static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .build();
+    }
+
+    /**
+     * Writes a single value as one NDJSON line.
+     */
+    private void writeLine(OutputStream out, Object value) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Rejects oversized counter update batches, entries without a user ID and out-of-range deltas.
+     */
+    private void validateCounterUpdates(List<EventCounterUpdate> updates) {
+        if (updates.size() > maxBatchIds) {
+            throw new IllegalArgumentException("At most " + maxBatchIds + " counter updates can be sent at once");
+        }
+        if (updates.stream().anyMatch(update -> update.getUserId() == null)) {
+            throw new IllegalArgumentException("Every counter update needs a userId");
+        }
+        updates.forEach(update -> validateCounterDeltas(update.getAttendedDelta(), update.getRegisteredDelta()));
+    }
+
+    /**
+     * Rejects counter deltas outside +/- user-service.counters.max-delta.
+     */
+    private void validateCounterDeltas(int attendedDelta, int registeredDelta) {
+        if (Math.abs((long) attendedDelta) > maxCounterDelta || Math.abs((long) registeredDelta) > maxCounterDelta) {
+            throw new IllegalArgumentException("Counter deltas must be between -" + maxCounterDelta
+                    + " and " + maxCounterDelta);
+        }
+    }
+
     /**
      * Converts user ID header to UUID with proper error handling.
      */
-    private UUID parseUserId(String userId) {
+    static UUID parseUserId(String userId) {
         try {
             return UUID.fromString(userId);
         } catch (IllegalArgumentException e) {
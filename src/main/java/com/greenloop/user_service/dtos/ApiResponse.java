@@ -2,6 +2,8 @@ package com.greenloop.user_service.dtos;
 
 import java.time.LocalDateTime;
 
+import com.greenloop.user_service.web.ResponseTimestamps;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -19,7 +21,7 @@ public class ApiResponse<T> {
         this.success = success;
         this.message = message;
         this.data = data;
-        this.timestamp = LocalDateTime.now();
+        this.timestamp = ResponseTimestamps.now();
     }
 
     public static <T> ApiResponse<T> success(String message, T data) {
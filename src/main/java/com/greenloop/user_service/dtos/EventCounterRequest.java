@@ -0,0 +1,15 @@
+package com.greenloop.user_service.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventCounterRequest {
+    private int attendedDelta;
+    private int registeredDelta;
+}
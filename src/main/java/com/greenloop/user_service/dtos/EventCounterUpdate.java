@@ -0,0 +1,18 @@
+package com.greenloop.user_service.dtos;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventCounterUpdate {
+    private UUID userId;
+    private int attendedDelta;
+    private int registeredDelta;
+}
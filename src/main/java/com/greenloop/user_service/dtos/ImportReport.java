@@ -0,0 +1,21 @@
+package com.greenloop.user_service.dtos;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportReport {
+    private long total;
+    private long created;
+    private long failed;
+    private boolean completed;
+    private List<ImportRowError> errors;
+    private boolean errorsTruncated;
+}
@@ -0,0 +1,16 @@
+package com.greenloop.user_service.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportRowError {
+    private long row;
+    private String id;
+    private String message;
+}
@@ -0,0 +1,20 @@
+package com.greenloop.user_service.dtos;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InterestMatchResponse {
+    private List<UUID> userIds;
+    private long total;
+    private String nextCursor;
+    private boolean hasMore;
+}
@@ -0,0 +1,19 @@
+package com.greenloop.user_service.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserImportRow {
+    private String id;
+    private String email;
+    private String username;
+    private String avatarUrl;
+    private String bio;
+    private String birthDate;
+}
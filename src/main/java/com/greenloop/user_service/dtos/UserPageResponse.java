@@ -0,0 +1,18 @@
+package com.greenloop.user_service.dtos;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserPageResponse {
+    private List<UserResponse> users;
+    private String nextCursor;
+    private boolean hasMore;
+}
@@ -22,4 +22,5 @@ public class UserResponse {
     private LocalDate joinedDate;
     private int eventsAttended;
     private int eventsRegistered;
+    private Long version;
 }
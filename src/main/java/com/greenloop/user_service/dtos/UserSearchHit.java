@@ -0,0 +1,18 @@
+package com.greenloop.user_service.dtos;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserSearchHit {
+    private UUID id;
+    private String username;
+    private String avatarUrl;
+}
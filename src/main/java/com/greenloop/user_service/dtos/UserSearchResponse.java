@@ -0,0 +1,19 @@
+package com.greenloop.user_service.dtos;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserSearchResponse {
+    private List<UserSearchHit> users;
+    private int page;
+    private int size;
+    private boolean hasMore;
+}
@@ -0,0 +1,11 @@
+package com.greenloop.user_service.enums;
+
+/**
+ * Output format of a bulk table export.
+ */
+public enum ExportFormat {
+    /** CSV with a header row. */
+    CSV,
+    /** PostgreSQL binary COPY format, for loading into another PostgreSQL database. */
+    BINARY
+}
@@ -0,0 +1,6 @@
+package com.greenloop.user_service.enums;
+
+public enum ImportFormat {
+    CSV,
+    NDJSON
+}
@@ -1,5 +1,15 @@
 package com.greenloop.user_service.enums;
 
+import java.util.*;
+
+/**
+ * Sustainability activities a user can follow.
+ * <p>
+ * The ordinal of each constant is its bit position in the
+ * {@code users.interest_mask} column, so new constants must only ever be
+ * appended and existing ones never reordered or removed.
+ * </p>
+ */
 public enum Interest {
     RECYCLING,
     TREE_PLANTING,
@@ -8,5 +18,37 @@ public enum Interest {
     UPCYCLING,
     VOLUNTEERING,
     ECO_BAZAARS,
-    ONLINE_CHALLENGES
+    ONLINE_CHALLENGES;
+
+    private static final Interest[] VALUES = values();
+
+    /**
+     * Packs interests into a bitmask with one bit per ordinal.
+     *
+     * @param interests interests to pack
+     * @return bitmask with the corresponding bits set
+     */
+    public static int toMask(Collection<Interest> interests) {
+        int mask = 0;
+        for (Interest interest : interests) {
+            mask |= 1 << interest.ordinal();
+        }
+        return mask;
+    }
+
+    /**
+     * Unpacks a bitmask produced by {@link #toMask(Collection)}.
+     *
+     * @param mask bitmask to unpack; unknown bits are ignored
+     * @return interests whose bits are set
+     */
+    public static EnumSet<Interest> fromMask(int mask) {
+        EnumSet<Interest> interests = EnumSet.noneOf(Interest.class);
+        for (Interest interest : VALUES) {
+            if ((mask & (1 << interest.ordinal())) != 0) {
+                interests.add(interest);
+            }
+        }
+        return interests;
+    }
 }
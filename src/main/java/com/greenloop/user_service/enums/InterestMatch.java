@@ -0,0 +1,11 @@
+package com.greenloop.user_service.enums;
+
+/**
+ * How multiple interests in a "find users by interest" query are combined.
+ */
+public enum InterestMatch {
+    /** Users must have every requested interest. */
+    ALL,
+    /** Users must have at least one requested interest. */
+    ANY
+}
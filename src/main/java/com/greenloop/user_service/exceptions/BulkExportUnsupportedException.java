@@ -0,0 +1,7 @@
+package com.greenloop.user_service.exceptions;
+
+public class BulkExportUnsupportedException extends RuntimeException {
+    public BulkExportUnsupportedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.greenloop.user_service.exceptions;
+
+import com.greenloop.user_service.dtos.UserResponse;
+
+import lombok.Getter;
+
+@Getter
+public class UserConflictException extends RuntimeException {
+    private final transient UserResponse current;
+
+    public UserConflictException(String message, UserResponse current) {
+        super(message);
+        this.current = current;
+    }
+}
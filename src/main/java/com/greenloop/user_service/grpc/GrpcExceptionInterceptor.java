@@ -0,0 +1,58 @@
+package com.greenloop.user_service.grpc;
+
+import com.greenloop.user_service.exceptions.GlobalExceptionHandler;
+import com.greenloop.user_service.exceptions.UserConflictException;
+import com.greenloop.user_service.exceptions.UserNotFoundException;
+
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Turns exceptions thrown by gRPC handlers into status codes, mirroring
+ * {@link GlobalExceptionHandler} for REST. Without it every failure would
+ * reach the caller as UNKNOWN. Unexpected failures are logged here and
+ * reported as INTERNAL with a fixed description, since their messages can
+ * carry SQL or other persistence details.
+ */
+@Slf4j
+public class GrpcExceptionInterceptor implements ServerInterceptor {
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(next.startCall(call, headers)) {
+            @Override
+            public void onHalfClose() {
+                // Unary and server-streaming handlers run when the request is complete
+                try {
+                    super.onHalfClose();
+                } catch (RuntimeException e) {
+                    call.close(toStatus(e), new Metadata());
+                }
+            }
+        };
+    }
+
+    static Status toStatus(RuntimeException e) {
+        if (e instanceof StatusRuntimeException statusException) {
+            return statusException.getStatus();
+        }
+        if (e instanceof UserNotFoundException) {
+            return Status.NOT_FOUND.withDescription(e.getMessage());
+        }
+        if (e instanceof UserConflictException) {
+            return Status.ABORTED.withDescription(e.getMessage());
+        }
+        if (e instanceof IllegalArgumentException) {
+            return Status.INVALID_ARGUMENT.withDescription(e.getMessage());
+        }
+        log.error("Unexpected error in gRPC call", e);
+        return Status.INTERNAL.withDescription("An unexpected error occurred");
+    }
+}
@@ -0,0 +1,115 @@
+package com.greenloop.user_service.grpc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.health.v1.HealthCheckResponse.ServingStatus;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.protobuf.services.HealthStatusManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs the gRPC services on their own port, next to the servlet container.
+ * <p>
+ * The server speaks plaintext HTTP/2 (prior knowledge, as gRPC clients do by
+ * default), so a caller multiplexes all its concurrent calls over one
+ * connection. Idle connections are kept open: callers may ping every
+ * {@code permit-keep-alive-time} even without active calls, instead of
+ * reconnecting after each burst. The standard {@code grpc.health.v1} service
+ * reports SERVING while the server runs, for gRPC readiness probes.
+ * </p>
+ * <p>
+ * Callers are not authenticated: the port is meant to be reachable only from
+ * trusted in-cluster services, enforced by the Helm chart's optional
+ * NetworkPolicy or by mTLS in a service mesh.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "user-service.grpc.enabled", havingValue = "true", matchIfMissing = true)
+public class GrpcServer implements SmartLifecycle {
+
+    private final List<BindableService> services;
+    private final int port;
+    private final int maxConcurrentCallsPerConnection;
+    private final long permitKeepAliveTimeSeconds;
+    private final long shutdownGracePeriodSeconds;
+    private final HealthStatusManager health = new HealthStatusManager();
+
+    private volatile Server server;
+
+    public GrpcServer(List<BindableService> services,
+            @Value("${user-service.grpc.port:9090}") int port,
+            @Value("${user-service.grpc.max-concurrent-calls-per-connection:100}") int maxConcurrentCallsPerConnection,
+            @Value("${user-service.grpc.permit-keep-alive-time-seconds:30}") long permitKeepAliveTimeSeconds,
+            @Value("${user-service.grpc.shutdown-grace-period-seconds:10}") long shutdownGracePeriodSeconds) {
+        this.services = services;
+        this.port = port;
+        this.maxConcurrentCallsPerConnection = maxConcurrentCallsPerConnection;
+        this.permitKeepAliveTimeSeconds = permitKeepAliveTimeSeconds;
+        this.shutdownGracePeriodSeconds = shutdownGracePeriodSeconds;
+    }
+
+    @Override
+    public void start() {
+        NettyServerBuilder builder = NettyServerBuilder.forPort(port)
+                .maxConcurrentCallsPerConnection(maxConcurrentCallsPerConnection)
+                .permitKeepAliveTime(permitKeepAliveTimeSeconds, TimeUnit.SECONDS)
+                .permitKeepAliveWithoutCalls(true)
+                .addService(health.getHealthService());
+        GrpcExceptionInterceptor exceptionInterceptor = new GrpcExceptionInterceptor();
+        for (BindableService service : services) {
+            builder.addService(ServerInterceptors.intercept(service, exceptionInterceptor));
+        }
+        try {
+            server = builder.build().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start gRPC server on port " + port, e);
+        }
+        health.setStatus(HealthStatusManager.SERVICE_NAME_ALL_SERVICES, ServingStatus.SERVING);
+        log.info("gRPC server started on port {} with {} service(s)", server.getPort(), services.size());
+    }
+
+    @Override
+    public void stop() {
+        Server running = server;
+        if (running == null) {
+            return;
+        }
+        // Tell load balancers to stop routing here, then let in-flight calls finish
+        health.enterTerminalState();
+        running.shutdown();
+        try {
+            if (!running.awaitTermination(shutdownGracePeriodSeconds, TimeUnit.SECONDS)) {
+                running.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            running.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * @return port the server is bound to, or -1 when it is not running
+     */
+    public int getPort() {
+        Server running = server;
+        return running == null ? -1 : running.getPort();
+    }
+}
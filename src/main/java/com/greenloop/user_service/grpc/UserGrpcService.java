@@ -0,0 +1,183 @@
+package com.greenloop.user_service.grpc;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.greenloop.user_service.dtos.BatchUserResult;
+import com.greenloop.user_service.dtos.UserInterestsResponse;
+import com.greenloop.user_service.dtos.UserResponse;
+import com.greenloop.user_service.grpc.proto.AddInterestsRequest;
+import com.greenloop.user_service.grpc.proto.BatchGetUsersRequest;
+import com.greenloop.user_service.grpc.proto.BatchGetUsersResponse;
+import com.greenloop.user_service.grpc.proto.GetInterestsRequest;
+import com.greenloop.user_service.grpc.proto.GetUserRequest;
+import com.greenloop.user_service.grpc.proto.ListUsersRequest;
+import com.greenloop.user_service.grpc.proto.User;
+import com.greenloop.user_service.grpc.proto.UserInterests;
+import com.greenloop.user_service.grpc.proto.UserServiceGrpc;
+import com.greenloop.user_service.services.UserService;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * gRPC counterpart of the read and interest endpoints of
+ * {@link com.greenloop.user_service.controllers.UserController}.
+ * <p>
+ * Every RPC delegates to {@link UserService}, so profile caching, the batch
+ * limit and interest validation behave as over REST. Service exceptions are
+ * translated to gRPC status codes by {@link GrpcExceptionInterceptor}.
+ * </p>
+ */
+@Component
+public class UserGrpcService extends UserServiceGrpc.UserServiceImplBase {
+
+    private static final long READY_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final UserService userService;
+    private final int maxBatchIds;
+    private final long listUsersReadyTimeoutNanos;
+
+    public UserGrpcService(UserService userService,
+            @Value("${user-service.batch.max-ids:5000}") int maxBatchIds,
+            @Value("${user-service.grpc.list-users.ready-timeout-seconds:30}") long listUsersReadyTimeoutSeconds) {
+        this.userService = userService;
+        this.maxBatchIds = maxBatchIds;
+        this.listUsersReadyTimeoutNanos = TimeUnit.SECONDS.toNanos(listUsersReadyTimeoutSeconds);
+    }
+
+    @Override
+    public void getUser(GetUserRequest request, StreamObserver<User> responseObserver) {
+        responseObserver.onNext(toProto(userService.getUserById(parseUserId(request.getUserId()))));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void batchGetUsers(BatchGetUsersRequest request, StreamObserver<BatchGetUsersResponse> responseObserver) {
+        if (request.getUserIdsCount() > maxBatchIds) {
+            throw new IllegalArgumentException("At most " + maxBatchIds + " user IDs can be requested at once");
+        }
+        List<UUID> ids = request.getUserIdsList().stream().map(this::parseUserId).toList();
+
+        BatchGetUsersResponse.Builder response = BatchGetUsersResponse.newBuilder();
+        for (BatchUserResult result : userService.getUsersByIds(ids)) {
+            com.greenloop.user_service.grpc.proto.BatchUserResult.Builder entry =
+                    com.greenloop.user_service.grpc.proto.BatchUserResult.newBuilder()
+                            .setUserId(result.getId().toString())
+                            .setFound(result.isFound());
+            if (result.getUser() != null) {
+                entry.setUser(toProto(result.getUser()));
+            }
+            response.addResults(entry);
+        }
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * Returns a user's interests, or NOT_FOUND for an unknown user as the REST endpoint does.
+     */
+    @Override
+    public void getInterests(GetInterestsRequest request, StreamObserver<UserInterests> responseObserver) {
+        UUID userId = parseUserId(request.getUserId());
+        // An unknown user has no interest rows either, so existence is checked through the version
+        userService.getUserVersion(userId);
+        responseObserver.onNext(toProto(userService.getInterests(userId)));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void addInterests(AddInterestsRequest request, StreamObserver<UserInterests> responseObserver) {
+        UserInterestsResponse added = userService.addInterests(parseUserId(request.getUserId()),
+                request.getInterestsList());
+        responseObserver.onNext(toProto(added));
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * Streams every user while the database cursor is open.
+     * <p>
+     * Messages are only sent while the transport is ready for more, so a slow
+     * caller holds back the cursor instead of filling the server's buffers.
+     * The onReady callback cannot be used for this: it is delivered on the
+     * thread this method is blocking, so readiness is polled instead.
+     * </p>
+     * <p>
+     * The cursor holds a transaction and a pooled connection, so a caller
+     * that stops reading for longer than {@code list-users.ready-timeout-seconds}
+     * fails the call with DEADLINE_EXCEEDED rather than pinning both.
+     * </p>
+     */
+    @Override
+    public void listUsers(ListUsersRequest request, StreamObserver<User> responseObserver) {
+        ServerCallStreamObserver<User> call = (ServerCallStreamObserver<User>) responseObserver;
+        userService.streamAllUsers(user -> {
+            long waitingSince = System.nanoTime();
+            while (!call.isReady()) {
+                // Both unwind the stream and release the cursor
+                if (call.isCancelled()) {
+                    throw Status.CANCELLED.withDescription("Client cancelled the stream").asRuntimeException();
+                }
+                if (System.nanoTime() - waitingSince > listUsersReadyTimeoutNanos) {
+                    throw Status.DEADLINE_EXCEEDED
+                            .withDescription("Client did not read the stream for "
+                                    + TimeUnit.NANOSECONDS.toSeconds(listUsersReadyTimeoutNanos) + "s")
+                            .asRuntimeException();
+                }
+                LockSupport.parkNanos(READY_POLL_NANOS);
+            }
+            call.onNext(toProto(user));
+        });
+        call.onCompleted();
+    }
+
+    private UUID parseUserId(String userId) {
+        try {
+            return UUID.fromString(userId);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid user ID: " + userId, e);
+        }
+    }
+
+    private User toProto(UserResponse user) {
+        User.Builder builder = User.newBuilder()
+                .setId(user.getId().toString())
+                .setEventsAttended(user.getEventsAttended())
+                .setEventsRegistered(user.getEventsRegistered());
+        // Protobuf setters reject null, so absent fields are left unset
+        if (user.getUsername() != null) {
+            builder.setUsername(user.getUsername());
+        }
+        if (user.getEmail() != null) {
+            builder.setEmail(user.getEmail());
+        }
+        if (user.getAvatarUrl() != null) {
+            builder.setAvatarUrl(user.getAvatarUrl());
+        }
+        if (user.getBio() != null) {
+            builder.setBio(user.getBio());
+        }
+        if (user.getBirthDate() != null) {
+            builder.setBirthDate(user.getBirthDate().toString());
+        }
+        if (user.getJoinedDate() != null) {
+            builder.setJoinedDate(user.getJoinedDate().toString());
+        }
+        if (user.getVersion() != null) {
+            builder.setVersion(user.getVersion());
+        }
+        return builder.build();
+    }
+
+    private UserInterests toProto(UserInterestsResponse interests) {
+        return UserInterests.newBuilder()
+                .addAllInterests(interests.getInterests())
+                .build();
+    }
+}
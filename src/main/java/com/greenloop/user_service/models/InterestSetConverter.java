@@ -0,0 +1,22 @@
+package com.greenloop.user_service.models;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.*;
+
+import com.greenloop.user_service.enums.Interest;
+
+@Converter
+public class InterestSetConverter implements AttributeConverter<Set<Interest>, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(Set<Interest> interests) {
+        return interests == null ? 0 : (short) Interest.toMask(interests);
+    }
+
+    @Override
+    public Set<Interest> convertToEntityAttribute(Short mask) {
+        return mask == null ? EnumSet.noneOf(Interest.class) : Interest.fromMask(mask);
+    }
+}
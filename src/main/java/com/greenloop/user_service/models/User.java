@@ -1,9 +1,13 @@
 package com.greenloop.user_service.models;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.greenloop.user_service.enums.Interest;
 
 import jakarta.persistence.*;
 import lombok.*;
+
+import org.hibernate.annotations.ColumnDefault;
+
 import java.util.*;
 import java.time.LocalDate;
 
@@ -11,7 +15,7 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_joined_date_id", columnList = "joined_date, id"))
 @Builder
 public class User {
     @Id
@@ -38,6 +42,20 @@ public class User {
     @Builder.Default
     private int eventsRegistered = 0;
 
+    // Bumped on every change to the profile or interests; serves as the ETag and for optimistic locking.
+    // Bulk and native updates must increment it themselves.
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+
+    // Written only by InterestStore via compare-and-set so entity saves never overwrite concurrent adds
+    @Convert(converter = InterestSetConverter.class)
+    @Column(name = "interest_mask", insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @JsonIgnore
+    @Builder.Default
+    private Set<Interest> interestSet = EnumSet.noneOf(Interest.class);
+
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
     @JsonIgnore
     @Builder.Default
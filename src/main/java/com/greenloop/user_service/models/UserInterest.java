@@ -12,7 +12,8 @@ import com.greenloop.user_service.enums.Interest;
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
-@Table(name = "user_interests")
+@Table(name = "user_interests", uniqueConstraints = @UniqueConstraint(name = "uk_user_interests_user_interest", columnNames = {
+        "user_id", "interest" }))
 @Builder
 public class UserInterest {
     @Id
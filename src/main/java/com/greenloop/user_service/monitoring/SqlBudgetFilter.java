@@ -0,0 +1,94 @@
+package com.greenloop.user_service.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the SQL statements and database time of every HTTP request and
+ * flags requests that exceed the configured budget.
+ * <p>
+ * Per route, {@code sql.request.statements} and {@code sql.request.time}
+ * are always recorded. A request issuing more than
+ * {@code user-service.sql.budget.max-statements} statements, or taking longer
+ * than {@code user-service.sql.budget.max-latency-ms}, is logged with its
+ * originating service method and counted in
+ * {@code sql.request.budget.exceeded}.
+ * </p>
+ */
+@Slf4j
+@Component
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final long maxStatements;
+    private final Duration maxLatency;
+
+    public SqlBudgetFilter(MeterRegistry meterRegistry,
+            @Value("${user-service.sql.budget.max-statements:10}") long maxStatements,
+            @Value("${user-service.sql.budget.max-latency-ms:500}") long maxLatencyMs) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.maxLatency = Duration.ofMillis(maxLatencyMs);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long startNanos = System.nanoTime();
+        SqlStatementStats stats = SqlStatementStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            stats.close();
+            report(request, stats, Duration.ofNanos(System.nanoTime() - startNanos));
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatementStats stats, Duration latency) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("method", request.getMethod(), "uri", pattern == null ? "UNKNOWN" : pattern.toString());
+        DistributionSummary.builder("sql.request.statements")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder("sql.request.time")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getDatabaseTime().toNanos(), TimeUnit.NANOSECONDS);
+
+        boolean tooManyStatements = stats.getStatements() > maxStatements;
+        boolean tooSlow = latency.compareTo(maxLatency) > 0;
+        if (!tooManyStatements && !tooSlow) {
+            return;
+        }
+        String origin = stats.getOrigin() == null ? "none" : stats.getOrigin();
+        meterRegistry.counter("sql.request.budget.exceeded", tags
+                .and("origin", origin)
+                .and("reason", tooManyStatements ? "statements" : "latency"))
+                .increment();
+        log.warn("{} {} exceeded its SQL budget: {} statements, {} ms in the database, {} ms total, from {}",
+                request.getMethod(), request.getRequestURI(), stats.getStatements(),
+                stats.getDatabaseTime().toMillis(), latency.toMillis(), origin);
+    }
+}
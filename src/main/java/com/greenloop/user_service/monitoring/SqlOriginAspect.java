@@ -0,0 +1,26 @@
+package com.greenloop.user_service.monitoring;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tags the current {@link SqlStatementStats} recording with the service
+ * method that was called first, so budget violations can be traced back to
+ * the {@code UserService} (or other {@code @Service}) entry point.
+ */
+@Aspect
+@Component
+public class SqlOriginAspect {
+
+    @Around("@within(org.springframework.stereotype.Service) && execution(public * *(..))")
+    public Object reportOrigin(ProceedingJoinPoint joinPoint) throws Throwable {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null && stats.getOrigin() == null) {
+            stats.reportOrigin(joinPoint.getSignature().getDeclaringType().getSimpleName()
+                    + "." + joinPoint.getSignature().getName());
+        }
+        return joinPoint.proceed();
+    }
+}
@@ -0,0 +1,40 @@
+package com.greenloop.user_service.monitoring;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate session listener feeding executed statements into
+ * {@link SqlStatementStats}.
+ * <p>
+ * Registered for every session through {@code hibernate.session.events.auto},
+ * so Hibernate creates one instance per session. Covers everything issued
+ * through the {@code EntityManager}: repository queries, native queries and
+ * flushes. JDBC batches count as one statement. Statements run directly on
+ * a {@code DataSource} (cache invalidation NOTIFYs, COPY exports) are not seen.
+ * </p>
+ */
+public class SqlStatementCountingListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementStats.recordStatement(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatementStats.recordStatement(System.nanoTime() - batchStart);
+    }
+}
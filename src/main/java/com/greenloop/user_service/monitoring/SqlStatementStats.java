@@ -0,0 +1,119 @@
+package com.greenloop.user_service.monitoring;
+
+import java.time.Duration;
+
+/**
+ * Counts the SQL statements a thread executes and the time spent running them.
+ * <p>
+ * A recording is started with {@link #start()} and ends when it is closed;
+ * statements executed by Hibernate on the same thread in between are added
+ * by {@link SqlStatementCountingListener}. Recordings nest: a statement counts
+ * towards every open recording on the thread, so tests can measure a single
+ * call while the per-request recording of {@link SqlBudgetFilter} is active.
+ * </p>
+ * <p>
+ * Work handed off to other threads, such as streamed response bodies or
+ * scheduled flushes, is not attributed to the recording.
+ * </p>
+ *
+ * <pre>{@code
+ * try (SqlStatementStats stats = SqlStatementStats.start()) {
+ *     userService.addInterests(userId, interests);
+ *     assertThat(stats.getStatements()).isLessThanOrEqualTo(3);
+ * }
+ * }</pre>
+ */
+public final class SqlStatementStats implements AutoCloseable {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private final SqlStatementStats parent;
+    private long statements;
+    private long nanos;
+    private String origin;
+
+    private SqlStatementStats(SqlStatementStats parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Starts a recording on the calling thread.
+     *
+     * @return the new recording; close it on the same thread
+     */
+    public static SqlStatementStats start() {
+        SqlStatementStats stats = new SqlStatementStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Returns the innermost open recording on the calling thread.
+     *
+     * @return the current recording, or null if none is open
+     */
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Adds one executed statement, or one executed JDBC batch, to every open
+     * recording on the calling thread.
+     *
+     * @param elapsedNanos time the statement took to execute
+     */
+    static void recordStatement(long elapsedNanos) {
+        for (SqlStatementStats stats = CURRENT.get(); stats != null; stats = stats.parent) {
+            stats.statements++;
+            stats.nanos += elapsedNanos;
+        }
+    }
+
+    /**
+     * @return number of statements executed; a JDBC batch counts as one
+     */
+    public long getStatements() {
+        return statements;
+    }
+
+    /**
+     * @return total time spent executing statements
+     */
+    public Duration getDatabaseTime() {
+        return Duration.ofNanos(nanos);
+    }
+
+    /**
+     * @return outermost service method called during the recording
+     *         (e.g. {@code UserService.addInterests}), or null if none was
+     */
+    public String getOrigin() {
+        return origin;
+    }
+
+    /**
+     * Records the service method responsible for the statements, keeping the
+     * first one reported.
+     *
+     * @param origin service method name
+     */
+    void reportOrigin(String origin) {
+        if (this.origin == null) {
+            this.origin = origin;
+        }
+    }
+
+    /**
+     * Ends the recording and makes the enclosing one, if any, current again.
+     */
+    @Override
+    public void close() {
+        if (CURRENT.get() == this) {
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.greenloop.user_service.repos;
+
+import java.util.*;
+
+/**
+ * Projection of the unique identity columns of a user, used to detect import conflicts.
+ */
+public interface UserIdentityRow {
+    UUID getId();
+
+    String getEmail();
+
+    String getUsername();
+}
@@ -0,0 +1,14 @@
+package com.greenloop.user_service.repos;
+
+import com.greenloop.user_service.enums.Interest;
+
+import java.util.*;
+
+/**
+ * Projection of a user's interest bitmask, used to bulk-load the interest index.
+ */
+public interface UserInterestMaskRow {
+    UUID getUserId();
+
+    Set<Interest> getInterests();
+}
@@ -1,17 +1,29 @@
 package com.greenloop.user_service.repos;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.greenloop.user_service.enums.Interest;
 import com.greenloop.user_service.models.UserInterest;
+
+import jakarta.persistence.QueryHint;
+
 import java.util.*;
+import java.util.stream.Stream;
 
 @Repository
-public interface UserInterestRepository extends JpaRepository<UserInterest, UUID> {
+public interface UserInterestRepository extends JpaRepository<UserInterest, UUID>, UserInterestRepositoryCustom {
     List<UserInterest> findByUserId(UUID userId);
 
     UserInterest findByUserIdAndInterest(UUID userId, String interest);
 
-    boolean existsByUserIdAndInterest(UUID userId, Interest interest);
+    @Query("SELECT ui.interest FROM UserInterest ui WHERE ui.user.id = :userId")
+    List<Interest> findInterestsByUserId(UUID userId);
+
+    @Query("SELECT ui.user.id AS userId, ui.interest AS interest FROM UserInterest ui")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<UserInterestRow> streamAllRows();
 }
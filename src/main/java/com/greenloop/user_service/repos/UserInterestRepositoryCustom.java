@@ -0,0 +1,18 @@
+package com.greenloop.user_service.repos;
+
+import com.greenloop.user_service.enums.Interest;
+import java.util.*;
+
+public interface UserInterestRepositoryCustom {
+
+    /**
+     * Inserts one row per interest for the user in a single statement,
+     * silently skipping interests the user already has.
+     *
+     * @param userId    owner of the interests
+     * @param interests interests to insert
+     * @return interests whose rows were actually inserted; a concurrent insert
+     *         of the same interest leaves it out
+     */
+    Set<Interest> insertIgnoringDuplicates(UUID userId, Collection<Interest> interests);
+}
@@ -0,0 +1,59 @@
+package com.greenloop.user_service.repos;
+
+import com.greenloop.user_service.enums.Interest;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.*;
+
+public class UserInterestRepositoryImpl implements UserInterestRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.default_schema:}")
+    private String schema;
+
+    @Override
+    public Set<Interest> insertIgnoringDuplicates(UUID userId, Collection<Interest> interests) {
+        if (interests.isEmpty()) {
+            return EnumSet.noneOf(Interest.class);
+        }
+
+        // One multi-row VALUES list; the unique (user_id, interest) constraint resolves races
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 0; i < interests.size(); i++) {
+            values.add("(?, ?, ?)");
+        }
+        String sql = "INSERT INTO " + (schema.isBlank() ? "" : schema + ".") + "user_interests (id, user_id, interest) "
+                + "VALUES " + values + " ON CONFLICT DO NOTHING";
+
+        entityManager.flush();
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            // Generated keys only cover inserted rows; the PostgreSQL driver sends this as RETURNING interest
+            try (PreparedStatement insert = connection.prepareStatement(sql, new String[] {"interest"})) {
+                int parameter = 1;
+                for (Interest interest : interests) {
+                    insert.setObject(parameter++, UUID.randomUUID());
+                    insert.setObject(parameter++, userId);
+                    insert.setString(parameter++, interest.name());
+                }
+                insert.executeUpdate();
+
+                EnumSet<Interest> inserted = EnumSet.noneOf(Interest.class);
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        inserted.add(Interest.valueOf(keys.getString(1)));
+                    }
+                }
+                return inserted;
+            }
+        });
+    }
+}
@@ -0,0 +1,14 @@
+package com.greenloop.user_service.repos;
+
+import com.greenloop.user_service.enums.Interest;
+
+import java.util.*;
+
+/**
+ * Projection of a single user_interests row, used to bulk-load the interest index.
+ */
+public interface UserInterestRow {
+    UUID getUserId();
+
+    Interest getInterest();
+}
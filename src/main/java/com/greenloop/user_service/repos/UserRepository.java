@@ -1,12 +1,75 @@
 package com.greenloop.user_service.repos;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import com.greenloop.user_service.dtos.UserResponse;
 import com.greenloop.user_service.models.User;
+
+import jakarta.persistence.QueryHint;
+
+import java.time.LocalDate;
 import java.util.*;
+import java.util.stream.Stream;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID> {
-    
+public interface UserRepository extends JpaRepository<User, UUID>, UserRepositoryCustom {
+
+    // Profile reads select straight into the DTO, so no managed entities or snapshots are created
+    String USER_RESPONSE = "new com.greenloop.user_service.dtos.UserResponse(u.id, u.username, u.email, "
+            + "u.avatarUrl, u.bio, u.birthDate, u.joinedDate, u.eventsAttended, u.eventsRegistered, u.version)";
+
+    @Query("SELECT " + USER_RESPONSE + " FROM User u WHERE u.id = :id")
+    Optional<UserResponse> findResponseById(UUID id);
+
+    @Query("SELECT " + USER_RESPONSE + " FROM User u WHERE u.id IN :ids")
+    List<UserResponse> findResponsesByIdIn(Collection<UUID> ids);
+
+    @Query("SELECT " + USER_RESPONSE + " FROM User u ORDER BY u.joinedDate ASC, u.id ASC")
+    List<UserResponse> findFirstPage(Limit limit);
+
+    @Query("SELECT " + USER_RESPONSE + " FROM User u "
+            + "WHERE u.joinedDate > :joinedDate OR (u.joinedDate = :joinedDate AND u.id > :id) "
+            + "ORDER BY u.joinedDate ASC, u.id ASC")
+    List<UserResponse> findPageAfter(LocalDate joinedDate, UUID id, Limit limit);
+
+    @Query("SELECT " + USER_RESPONSE + " FROM User u ORDER BY u.joinedDate ASC, u.id ASC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<UserResponse> streamAllOrdered();
+
+    @Query("SELECT u.id AS userId, u.interestSet AS interests FROM User u")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<UserInterestMaskRow> streamAllInterestMasks();
+
+    @Query("SELECT u.id AS id, u.email AS email, u.username AS username FROM User u "
+            + "WHERE u.id IN :ids OR u.email IN :emails OR u.username IN :usernames")
+    List<UserIdentityRow> findIdentityConflicts(Collection<UUID> ids, Collection<String> emails,
+            Collection<String> usernames);
+
+    @Query("SELECT u.version FROM User u WHERE u.id = :id")
+    Optional<Long> findVersionById(UUID id);
+
+    @Modifying
+    @Query("UPDATE User u SET u.version = u.version + 1 WHERE u.id = :id")
+    int incrementVersion(UUID id);
+
+    @Modifying
+    @Query("UPDATE User u SET u.eventsAttended = GREATEST(u.eventsAttended + :attendedDelta, 0), "
+            + "u.eventsRegistered = GREATEST(u.eventsRegistered + :registeredDelta, 0), "
+            + "u.version = u.version + 1 WHERE u.id = :id")
+    int addToEventCounters(UUID id, int attendedDelta, int registeredDelta);
+
+    @Query(value = "SELECT CAST(COALESCE(interest_mask, 0) AS INTEGER) FROM {h-schema}users WHERE id = :id",
+            nativeQuery = true)
+    Integer findInterestMaskById(UUID id);
+
+    @Modifying
+    @Query(value = "UPDATE {h-schema}users SET interest_mask = :newMask "
+            + "WHERE id = :id AND COALESCE(interest_mask, 0) = :expectedMask", nativeQuery = true)
+    int compareAndSetInterestMask(UUID id, short expectedMask, short newMask);
 }
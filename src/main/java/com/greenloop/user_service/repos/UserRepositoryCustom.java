@@ -0,0 +1,27 @@
+package com.greenloop.user_service.repos;
+
+import com.greenloop.user_service.dtos.EventCounterUpdate;
+import com.greenloop.user_service.models.User;
+import java.util.*;
+
+public interface UserRepositoryCustom {
+
+    /**
+     * Adds the deltas to the event counters of many users in a single
+     * statement, clamping each counter at zero and bumping each user's version.
+     *
+     * @param updates per-user deltas; user IDs must be distinct
+     * @return number of users actually updated
+     */
+    int bulkAddToEventCounters(Collection<EventCounterUpdate> updates);
+
+    /**
+     * Inserts new users in a single multi-row statement, silently skipping
+     * rows that collide with an existing id, email or username.
+     * Event counters and versions start at zero and the interest mask at its column default.
+     *
+     * @param users users to insert; joinedDate must be set
+     * @return IDs of the rows actually inserted
+     */
+    List<UUID> insertIgnoringConflicts(List<User> users);
+}
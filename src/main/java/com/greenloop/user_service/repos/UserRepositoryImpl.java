@@ -0,0 +1,101 @@
+package com.greenloop.user_service.repos;
+
+import com.greenloop.user_service.dtos.EventCounterUpdate;
+import com.greenloop.user_service.models.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.*;
+
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.default_schema:}")
+    private String schema;
+
+    @Override
+    public int bulkAddToEventCounters(Collection<EventCounterUpdate> updates) {
+        if (updates.isEmpty()) {
+            return 0;
+        }
+
+        // One UPDATE for all users: each counter picks its user's delta from a CASE on the id
+        StringBuilder attended = new StringBuilder("CASE id");
+        StringBuilder registered = new StringBuilder("CASE id");
+        StringJoiner ids = new StringJoiner(", ");
+        int parameter = 1;
+        for (int i = 0; i < updates.size(); i++) {
+            int id = parameter++;
+            attended.append(" WHEN ?").append(id).append(" THEN ?").append(parameter++);
+            registered.append(" WHEN ?").append(id).append(" THEN ?").append(parameter++);
+            ids.add("?" + id);
+        }
+        attended.append(" ELSE 0 END");
+        registered.append(" ELSE 0 END");
+        Query update = entityManager.createNativeQuery("UPDATE {h-schema}users SET "
+                + "events_attended = GREATEST(events_attended + " + attended + ", 0), "
+                + "events_registered = GREATEST(events_registered + " + registered + ", 0), "
+                + "version = version + 1 "
+                + "WHERE id IN (" + ids + ")");
+
+        parameter = 1;
+        for (EventCounterUpdate counterUpdate : updates) {
+            update.setParameter(parameter++, counterUpdate.getUserId());
+            update.setParameter(parameter++, counterUpdate.getAttendedDelta());
+            update.setParameter(parameter++, counterUpdate.getRegisteredDelta());
+        }
+        return update.executeUpdate();
+    }
+
+    @Override
+    public List<UUID> insertIgnoringConflicts(List<User> users) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 0; i < users.size(); i++) {
+            values.add("(?, ?, ?, ?, ?, ?, ?, 0, 0, 0)");
+        }
+        String sql = "INSERT INTO " + (schema.isBlank() ? "" : schema + ".") + "users "
+                + "(id, email, username, avatar_url, bio, birth_date, joined_date, events_attended, events_registered, "
+                + "version) "
+                + "VALUES " + values + " ON CONFLICT DO NOTHING";
+
+        entityManager.flush();
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            // Generated keys only cover inserted rows; the PostgreSQL driver sends this as RETURNING id
+            try (PreparedStatement insert = connection.prepareStatement(sql, new String[] {"id"})) {
+                int parameter = 1;
+                for (User user : users) {
+                    insert.setObject(parameter++, user.getId());
+                    insert.setString(parameter++, user.getEmail());
+                    insert.setString(parameter++, user.getUsername());
+                    insert.setString(parameter++, user.getAvatarUrl());
+                    insert.setString(parameter++, user.getBio());
+                    insert.setObject(parameter++, user.getBirthDate(), Types.DATE);
+                    insert.setObject(parameter++, user.getJoinedDate(), Types.DATE);
+                }
+                insert.executeUpdate();
+
+                List<UUID> inserted = new ArrayList<>(users.size());
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        inserted.add(keys.getObject(1, UUID.class));
+                    }
+                }
+                return inserted;
+            }
+        });
+    }
+}
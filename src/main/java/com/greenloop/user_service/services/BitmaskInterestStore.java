@@ -0,0 +1,82 @@
+package com.greenloop.user_service.services;
+
+import com.greenloop.user_service.enums.Interest;
+import com.greenloop.user_service.repos.UserInterestMaskRow;
+import com.greenloop.user_service.repos.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Stores a user's interests as a bitmask in {@code users.interest_mask}.
+ * <p>
+ * Reads are a single-column lookup by primary key with no join. Writes use
+ * compare-and-set on the previous mask so concurrent additions are never
+ * lost, retrying a bounded number of times under contention.
+ * </p>
+ *
+ * @see Interest#toMask(Collection)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "user-service.interests.storage", havingValue = "bitmask")
+public class BitmaskInterestStore implements InterestStore {
+
+    private static final int MAX_CAS_ATTEMPTS = 5;
+
+    private final UserRepository userRepository;
+
+    @Override
+    public Set<Interest> findInterests(UUID userId) {
+        return Interest.fromMask(readMask(userId));
+    }
+
+    @Override
+    public Set<Interest> addInterests(UUID userId, Set<Interest> interests) {
+        int requested = Interest.toMask(interests);
+        for (int attempt = 0; attempt < MAX_CAS_ATTEMPTS; attempt++) {
+            int current = readMask(userId);
+            int added = requested & ~current;
+            if (added == 0) {
+                return EnumSet.noneOf(Interest.class);
+            }
+            if (userRepository.compareAndSetInterestMask(userId, (short) current, (short) (current | added)) == 1) {
+                return Interest.fromMask(added);
+            }
+        }
+        throw new OptimisticLockingFailureException("Interests of user " + userId + " are being modified concurrently");
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachUserInterests(BiConsumer<UUID, Set<Interest>> consumer) {
+        try (Stream<UserInterestMaskRow> rows = userRepository.streamAllInterestMasks()) {
+            rows.filter(row -> !row.getInterests().isEmpty())
+                    .forEach(row -> consumer.accept(row.getUserId(), row.getInterests()));
+        }
+    }
+
+    @Override
+    public String exportQuery(String tablePrefix) {
+        StringJoiner bits = new StringJoiner(", ");
+        for (Interest interest : Interest.values()) {
+            bits.add("(" + interest.ordinal() + ", '" + interest.name() + "')");
+        }
+        return "SELECT u.id AS user_id, i.interest FROM " + tablePrefix + "users u"
+                + " JOIN (VALUES " + bits + ") AS i(bit, interest)"
+                + " ON (u.interest_mask & (1 << i.bit)) <> 0";
+    }
+
+    private int readMask(UUID userId) {
+        Integer mask = userRepository.findInterestMaskById(userId);
+        return mask == null ? 0 : mask;
+    }
+}
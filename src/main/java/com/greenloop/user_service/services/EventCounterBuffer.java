@@ -0,0 +1,242 @@
+package com.greenloop.user_service.services;
+
+import com.greenloop.user_service.dtos.EventCounterUpdate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind buffer for event counter deltas.
+ * <p>
+ * Deltas are coalesced per user in memory and written with
+ * {@link UserService#adjustEventCounters(List)}, so a burst of check-ins for
+ * the same users turns into one bulk UPDATE per flush instead of one per
+ * check-in. A flush runs every {@code flush-interval-ms}, and early once
+ * {@code max-pending-users} distinct users are waiting. Pending deltas are
+ * drained on shutdown.
+ * </p>
+ * <p>
+ * Each user's pending delta is taken out of the map atomically, so deltas
+ * recorded during a flush are kept for the next one. If a bulk write fails,
+ * its deltas are retried one user at a time so a single bad entry cannot hold
+ * back the others; a user whose write keeps failing is merged back and retried
+ * with later flushes, and dropped with an error log after
+ * {@code max-attempts} failed flushes. Deltas still in memory are lost if the
+ * process is killed without a graceful shutdown.
+ * </p>
+ */
+@Slf4j
+@Component
+public class EventCounterBuffer {
+
+    private final UserService userService;
+    private final TaskScheduler taskScheduler;
+    private final int maxPendingUsers;
+    private final int maxAttempts;
+
+    private final ConcurrentHashMap<UUID, Delta> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Lock flushLock = new ReentrantLock();
+    // Serializes merges into pending, so record can check a whole batch before applying it
+    private final Lock mergeLock = new ReentrantLock();
+
+    public EventCounterBuffer(UserService userService, TaskScheduler taskScheduler,
+            @Value("${user-service.counters.write-behind.max-pending-users:1000}") int maxPendingUsers,
+            @Value("${user-service.counters.write-behind.max-attempts:5}") int maxAttempts) {
+        this.userService = userService;
+        this.taskScheduler = taskScheduler;
+        this.maxPendingUsers = maxPendingUsers;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Buffers counter deltas for later write.
+     * <p>
+     * The batch is recorded as a whole or not at all, so a client that gets
+     * an error can resend it without counting any delta twice.
+     * </p>
+     *
+     * @param updates per-user deltas; entries for the same user are summed
+     * @throws IllegalArgumentException if a user's deltas would overflow, alone
+     *         or added to what is already pending; nothing is recorded then
+     */
+    public void record(List<EventCounterUpdate> updates) {
+        Map<UUID, Delta> batch = new HashMap<>();
+        try {
+            for (EventCounterUpdate update : updates) {
+                batch.merge(update.getUserId(), Delta.of(update), Delta::plus);
+            }
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Summed counter deltas for a user are out of range; nothing was recorded");
+        }
+
+        mergeLock.lock();
+        try {
+            List<UUID> rejected = new ArrayList<>();
+            batch.forEach((userId, delta) -> {
+                Delta current = pending.get(userId);
+                if (current != null && current.overflowsWith(delta)) {
+                    rejected.add(userId);
+                }
+            });
+            if (!rejected.isEmpty()) {
+                throw new IllegalArgumentException("Counter deltas for users " + rejected
+                        + " would overflow the pending total; nothing was recorded");
+            }
+            // Flushes only take deltas out meanwhile, so the checked sums cannot overflow
+            batch.forEach((userId, delta) -> pending.merge(userId, delta, Delta::plus));
+        } finally {
+            mergeLock.unlock();
+        }
+
+        if (pending.size() >= maxPendingUsers && flushRequested.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::flush, Instant.now());
+        }
+    }
+
+    /**
+     * Number of users with deltas waiting to be written.
+     *
+     * @return pending user count
+     */
+    public int pendingUsers() {
+        return pending.size();
+    }
+
+    /**
+     * Writes all pending deltas to the database.
+     */
+    @Scheduled(fixedDelayString = "${user-service.counters.write-behind.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+            Map<UUID, Delta> batch = new LinkedHashMap<>();
+            for (UUID userId : pending.keySet()) {
+                Delta delta = pending.remove(userId);
+                if (delta != null && !delta.isZero()) {
+                    batch.put(userId, delta);
+                }
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            try {
+                userService.adjustEventCounters(toUpdates(batch));
+                log.debug("Flushed event counter deltas for {} users", batch.size());
+            } catch (RuntimeException e) {
+                if (batch.size() == 1) {
+                    batch.forEach((userId, delta) -> requeue(userId, delta, e));
+                    return;
+                }
+                log.warn("Failed to flush event counter deltas for {} users; retrying each user", batch.size(), e);
+                batch.forEach(this::flushOne);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Writes one user's delta on its own, re-queueing it if that write fails too.
+     */
+    private void flushOne(UUID userId, Delta delta) {
+        try {
+            userService.adjustEventCounters(List.of(delta.toUpdate(userId)));
+        } catch (RuntimeException e) {
+            requeue(userId, delta, e);
+        }
+    }
+
+    /**
+     * Merges a failed delta back for the next flush, or drops it once it has failed too often.
+     */
+    private void requeue(UUID userId, Delta delta, RuntimeException cause) {
+        Delta failed = delta.failedOnce();
+        if (failed.attempts() >= maxAttempts) {
+            log.error("Dropping event counter delta {}/{} for user {} after {} failed flushes",
+                    failed.attended(), failed.registered(), userId, failed.attempts(), cause);
+            return;
+        }
+        mergeLock.lock();
+        try {
+            pending.merge(userId, failed, Delta::plus);
+            log.warn("Failed to flush event counter delta for user {}; will retry", userId, cause);
+        } catch (ArithmeticException e) {
+            log.error("Dropping event counter delta {}/{} for user {}: merging it back would overflow",
+                    failed.attended(), failed.registered(), userId, cause);
+        } finally {
+            mergeLock.unlock();
+        }
+    }
+
+    private static List<EventCounterUpdate> toUpdates(Map<UUID, Delta> batch) {
+        List<EventCounterUpdate> updates = new ArrayList<>(batch.size());
+        batch.forEach((userId, delta) -> updates.add(delta.toUpdate(userId)));
+        return updates;
+    }
+
+    @PreDestroy
+    void drain() {
+        flush();
+        if (!pending.isEmpty()) {
+            log.error("Shutting down with unflushed event counter deltas for {} users", pending.size());
+        }
+    }
+
+    /**
+     * Pending deltas for one user, with the number of flushes that have already failed for them.
+     */
+    private record Delta(int attended, int registered, int attempts) {
+
+        static Delta of(EventCounterUpdate update) {
+            return new Delta(update.getAttendedDelta(), update.getRegisteredDelta(), 0);
+        }
+
+        /**
+         * @throws ArithmeticException if either sum overflows an int
+         */
+        Delta plus(Delta other) {
+            return new Delta(Math.addExact(attended, other.attended), Math.addExact(registered, other.registered),
+                    Math.max(attempts, other.attempts));
+        }
+
+        boolean overflowsWith(Delta other) {
+            try {
+                plus(other);
+                return false;
+            } catch (ArithmeticException e) {
+                return true;
+            }
+        }
+
+        Delta failedOnce() {
+            return new Delta(attended, registered, attempts + 1);
+        }
+
+        boolean isZero() {
+            return attended == 0 && registered == 0;
+        }
+
+        EventCounterUpdate toUpdate(UUID userId) {
+            return EventCounterUpdate.builder()
+                    .userId(userId)
+                    .attendedDelta(attended)
+                    .registeredDelta(registered)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.greenloop.user_service.services;
+
+import com.greenloop.user_service.cache.RemoteUserChangedEvent;
+import com.greenloop.user_service.cache.UserChangedEvent;
+import com.greenloop.user_service.dtos.UserResponse;
+import com.greenloop.user_service.dtos.UserSearchHit;
+import com.greenloop.user_service.repos.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Searches usernames in a per-replica trie of lower-cased usernames.
+ * <p>
+ * Prefix matches are the subtree under the query's node, visited in
+ * alphabetical order. Fuzzy matches are usernames with a prefix within one
+ * edit of the query (two for queries of six or more characters), counting
+ * insertions, deletions, substitutions and swaps of adjacent letters. They
+ * are found by walking the trie with a row of edit distances per node and
+ * pruning branches that can no longer match.
+ * </p>
+ * <p>
+ * The trie is built before the service reports ready. Users named in
+ * {@link UserChangedEvent}s after they commit, and in
+ * {@link RemoteUserChangedEvent}s from other replicas, are marked stale and
+ * reloaded with one query by the next search, so writes pay nothing for the
+ * index. Nodes of renamed or deleted users are not pruned until the next
+ * full rebuild.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "user-service.search.engine", havingValue = "in-memory")
+public class InMemoryUserSearchIndex implements UserSearchIndex {
+
+    private static final int REFRESH_CHUNK_SIZE = 1000;
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, UserSearchHit> users = new HashMap<>();
+    private final Set<UUID> stale = ConcurrentHashMap.newKeySet();
+    private Node root = new Node();
+
+    /**
+     * Rebuilds the whole trie from the database.
+     * Runs once at startup, before the readiness probe starts passing.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            stale.clear();
+            users.clear();
+            root = new Node();
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<UserResponse> all = userRepository.streamAllOrdered()) {
+                    all.forEach(this::putUnlocked);
+                }
+            });
+            log.info("Username search index built for {} users", users.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Marks users changed on this replica for reloading once the change has committed.
+     *
+     * @param event IDs of the changed users
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        stale.addAll(event.getUserIds());
+    }
+
+    /**
+     * Marks users changed on other replicas for reloading.
+     *
+     * @param event IDs reported by the other replica, or all users
+     */
+    @EventListener
+    public void onRemoteUserChanged(RemoteUserChangedEvent event) {
+        if (event.isAllUsers()) {
+            rebuild();
+            return;
+        }
+        stale.addAll(event.getUserIds());
+    }
+
+    /**
+     * Replaces the given users with their current database state, dropping
+     * the ones that no longer exist.
+     *
+     * @param userIds users to reload
+     */
+    public void refresh(List<UUID> userIds) {
+        for (int from = 0; from < userIds.size(); from += REFRESH_CHUNK_SIZE) {
+            List<UUID> chunk = userIds.subList(from, Math.min(from + REFRESH_CHUNK_SIZE, userIds.size()));
+            List<UserResponse> current = userRepository.findResponsesByIdIn(chunk);
+            lock.writeLock().lock();
+            try {
+                chunk.forEach(this::removeUnlocked);
+                current.forEach(this::putUnlocked);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @Override
+    public List<UserSearchHit> search(String query, int offset, int limit) {
+        if (!stale.isEmpty()) {
+            List<UUID> changed = new ArrayList<>(stale);
+            // Users changed again from here on are marked anew and picked up by a later search
+            stale.removeAll(changed);
+            refresh(changed);
+        }
+        String key = query.toLowerCase(Locale.ROOT);
+        int window = offset + limit;
+        lock.readLock().lock();
+        try {
+            List<UUID> matches = new ArrayList<>();
+            Node prefixNode = find(key);
+            if (prefixNode != null) {
+                collect(prefixNode, matches, window);
+            }
+            int maxEdits = key.length() < MIN_FUZZY_LENGTH ? 0 : key.length() < 6 ? 1 : 2;
+            if (matches.size() < window && maxEdits > 0) {
+                List<List<UUID>> byDistance = new ArrayList<>();
+                for (int distance = 0; distance <= maxEdits; distance++) {
+                    byDistance.add(new ArrayList<>());
+                }
+                int[] firstRow = new int[key.length() + 1];
+                for (int i = 0; i < firstRow.length; i++) {
+                    firstRow[i] = i;
+                }
+                fuzzy(root, key, null, firstRow, '\0', Integer.MAX_VALUE, maxEdits, byDistance);
+                for (int distance = 1; distance <= maxEdits && matches.size() < window; distance++) {
+                    List<UUID> candidates = byDistance.get(distance);
+                    matches.addAll(candidates.subList(0, Math.min(candidates.size(), window - matches.size())));
+                }
+            }
+
+            List<UserSearchHit> hits = new ArrayList<>(Math.min(limit, matches.size()));
+            for (int i = offset; i < matches.size(); i++) {
+                hits.add(users.get(matches.get(i)));
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * Adds user IDs under the node to the list in alphabetical order, up to the limit.
+     */
+    private void collect(Node node, List<UUID> matches, int limit) {
+        for (UUID userId : node.userIds) {
+            if (matches.size() >= limit) {
+                return;
+            }
+            matches.add(userId);
+        }
+        for (Node child : node.children.values()) {
+            if (matches.size() >= limit) {
+                return;
+            }
+            collect(child, matches, limit);
+        }
+    }
+
+    /**
+     * Walks the trie below the node. {@code row} holds the edit distances
+     * between the node's path and each prefix of the key, {@code previous}
+     * the same for the parent's path (for transpositions, so "jhon" is one
+     * edit from "john"), and {@code best} the smallest distance between the
+     * key and any prefix of the path seen so far.
+     */
+    private void fuzzy(Node node, String key, int[] previous, int[] row, char last, int best, int maxEdits,
+            List<List<UUID>> byDistance) {
+        best = Math.min(best, row[key.length()]);
+        if (best == 0) {
+            // The path spells the query: this subtree was collected as prefix matches
+            return;
+        }
+        if (best <= maxEdits) {
+            byDistance.get(best).addAll(node.userIds);
+        }
+        int rowMin = Arrays.stream(row).min().orElseThrow();
+        for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+            char c = child.getKey();
+            int[] next = new int[row.length];
+            next[0] = row[0] + 1;
+            int min = next[0];
+            for (int i = 1; i < row.length; i++) {
+                int substitution = row[i - 1] + (key.charAt(i - 1) == c ? 0 : 1);
+                next[i] = Math.min(substitution, Math.min(next[i - 1], row[i]) + 1);
+                if (previous != null && i > 1 && key.charAt(i - 1) == last && key.charAt(i - 2) == c) {
+                    next[i] = Math.min(next[i], previous[i - 2] + 1);
+                }
+                min = Math.min(min, next[i]);
+            }
+            // Distances further down can only come from this row or, by transposition, the current one
+            if (Math.min(min, rowMin + 1) <= maxEdits || Math.min(best, next[key.length()]) <= maxEdits) {
+                fuzzy(child.getValue(), key, row, next, c, best, maxEdits, byDistance);
+            }
+        }
+    }
+
+    private void putUnlocked(UserResponse user) {
+        users.put(user.getId(), new UserSearchHit(user.getId(), user.getUsername(), user.getAvatarUrl()));
+        String key = user.getUsername().toLowerCase(Locale.ROOT);
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+        }
+        node.userIds.add(user.getId());
+    }
+
+    private void removeUnlocked(UUID userId) {
+        UserSearchHit previous = users.remove(userId);
+        if (previous == null) {
+            return;
+        }
+        Node node = find(previous.getUsername().toLowerCase(Locale.ROOT));
+        if (node != null) {
+            node.userIds.remove(userId);
+        }
+    }
+
+    private static final class Node {
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        private final Set<UUID> userIds = new LinkedHashSet<>(1);
+    }
+}
@@ -0,0 +1,348 @@
+package com.greenloop.user_service.services;
+
+import com.greenloop.user_service.cache.RemoteUserChangedEvent;
+import com.greenloop.user_service.dtos.InterestMatchResponse;
+import com.greenloop.user_service.enums.Interest;
+import com.greenloop.user_service.enums.InterestMatch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index from each {@link Interest} to the users who follow it.
+ * <p>
+ * Every indexed user is assigned a dense integer ordinal, and each interest
+ * maps to a compressed {@link RoaringBitmap} of ordinals, so AND/OR queries
+ * are bitmap intersections and unions instead of scans of the interest
+ * storage. The index is built from the {@link InterestStore} before the
+ * service reports ready, updated after local writes commit, and refreshed
+ * from the store when other replicas report changes.
+ * </p>
+ * <p>
+ * Results are ordered by user ID and paged with the last returned ID as the
+ * cursor, so every replica and every index generation pages the same way.
+ * A rebuild assigns ordinals in user-ID order, which lets a page be read
+ * straight off the bitmap; only users added since the last rebuild, whose
+ * ordinals are appended at the end, have to be sorted per query.
+ * </p>
+ * <p>
+ * Full rebuilds read the store without holding the lock and swap the new
+ * index in at the end, so queries and writers are not blocked while the
+ * table is scanned. Users changed during a rebuild are reloaded from the
+ * store after the swap. Ordinals of removed users are not reused until the
+ * next full rebuild.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InterestIndex {
+
+    private final InterestStore interestStore;
+    private final TaskScheduler taskScheduler;
+
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock rebuildLock = new ReentrantLock();
+    private State state = new State();
+    // Users changed while a rebuild is reading the store; null when no rebuild runs
+    private Set<UUID> changedDuringRebuild;
+
+    /**
+     * Rebuilds the whole index from the interest store.
+     * Runs once at startup, before the readiness probe starts passing, and
+     * whenever other replicas' changes may have been missed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = new HashSet<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            State rebuilt = null;
+            Set<UUID> changed;
+            try {
+                // Rows of one user may arrive apart, so collect them before ordinals are assigned in ID order
+                SortedMap<UUID, Set<Interest>> scanned = new TreeMap<>();
+                interestStore.forEachUserInterests((userId, interests) -> scanned
+                        .computeIfAbsent(userId, id -> EnumSet.noneOf(Interest.class))
+                        .addAll(interests));
+                rebuilt = State.sortedBy(scanned);
+            } finally {
+                lock.writeLock().lock();
+                try {
+                    if (rebuilt != null) {
+                        state = rebuilt;
+                    }
+                    changed = changedDuringRebuild;
+                    changedDuringRebuild = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+            // The scan may have read these users before their latest change committed
+            changed.forEach(this::reload);
+            log.info("Interest index built for {} users", rebuilt.ordinals.size());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Records that a user now follows the given interests.
+     *
+     * @param userId    user's UUID
+     * @param interests interests to add
+     */
+    public void addInterests(UUID userId, Set<Interest> interests) {
+        lock.writeLock().lock();
+        try {
+            state.add(userId, interests);
+            recordChange(userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Applies interests added by {@link UserService} once their transaction has committed.
+     *
+     * @param event user and the interests that were added
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInterestsAdded(InterestsAddedEvent event) {
+        addInterests(event.getUserId(), event.getInterests());
+    }
+
+    /**
+     * Removes a user from the index.
+     *
+     * @param userId user's UUID
+     */
+    public void removeUser(UUID userId) {
+        lock.writeLock().lock();
+        try {
+            state.remove(userId);
+            recordChange(userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reloads users changed on other replicas from the interest store.
+     * <p>
+     * A change to all users schedules a full rebuild instead of running it
+     * here, so the invalidation listener that delivered the event is not
+     * held up while the store is scanned. Requests arriving while a rebuild
+     * is still scheduled are folded into it.
+     * </p>
+     *
+     * @param event IDs reported by the other replica, or all users
+     */
+    @EventListener
+    public void onRemoteUserChanged(RemoteUserChangedEvent event) {
+        if (event.isAllUsers()) {
+            if (rebuildRequested.compareAndSet(false, true)) {
+                taskScheduler.schedule(this::scheduledRebuild, Instant.now());
+            }
+            return;
+        }
+        event.getUserIds().forEach(this::reload);
+    }
+
+    /**
+     * Finds users whose interests match the query, in user-ID order.
+     *
+     * @param interests interests to match; must not be empty
+     * @param match     whether users need all or any of the interests
+     * @param after     last user ID of the previous page, or null for the first page
+     * @param size      page size
+     * @return matching user IDs for the requested page, the total match count
+     *         and the cursor for the next page
+     */
+    public InterestMatchResponse find(Set<Interest> interests, InterestMatch match, UUID after, int size) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matches = combine(interests, match);
+            int limit = size + 1;
+
+            // Ordinals assigned by the last rebuild follow user-ID order, so they are read in place
+            List<UUID> sorted = new ArrayList<>(Math.min(limit, matches.getCardinality()));
+            PeekableIntIterator iterator = matches.getIntIterator();
+            iterator.advanceIfNeeded(state.firstSortedOrdinalAfter(after));
+            while (iterator.hasNext() && iterator.peekNext() < state.sortedUsers.length && sorted.size() < limit) {
+                sorted.add(state.usersByOrdinal.get(iterator.next()));
+            }
+
+            // Users added since then are appended in arrival order; keep only the smallest IDs
+            PriorityQueue<UUID> appended = new PriorityQueue<>(Comparator.reverseOrder());
+            iterator.advanceIfNeeded(state.sortedUsers.length);
+            while (iterator.hasNext()) {
+                UUID userId = state.usersByOrdinal.get(iterator.next());
+                if (after == null || userId.compareTo(after) > 0) {
+                    appended.add(userId);
+                    if (appended.size() > limit) {
+                        appended.poll();
+                    }
+                }
+            }
+            List<UUID> tail = new ArrayList<>(appended);
+            Collections.sort(tail);
+
+            List<UUID> userIds = merge(sorted, tail, limit);
+            boolean hasMore = userIds.size() > size;
+            if (hasMore) {
+                userIds = userIds.subList(0, size);
+            }
+            return InterestMatchResponse.builder()
+                    .userIds(userIds)
+                    .total(matches.getCardinality())
+                    .nextCursor(hasMore ? userIds.get(size - 1).toString() : null)
+                    .hasMore(hasMore)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void scheduledRebuild() {
+        rebuildRequested.set(false);
+        rebuild();
+    }
+
+    private static List<UUID> merge(List<UUID> a, List<UUID> b, int limit) {
+        List<UUID> merged = new ArrayList<>(Math.min(limit, a.size() + b.size()));
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < a.size() || j < b.size())) {
+            if (j == b.size() || (i < a.size() && a.get(i).compareTo(b.get(j)) < 0)) {
+                merged.add(a.get(i++));
+            } else {
+                merged.add(b.get(j++));
+            }
+        }
+        return merged;
+    }
+
+    private RoaringBitmap combine(Set<Interest> interests, InterestMatch match) {
+        List<RoaringBitmap> bitmaps = new ArrayList<>(interests.size());
+        for (Interest interest : interests) {
+            RoaringBitmap bitmap = state.postings.get(interest);
+            if (bitmap == null) {
+                if (match == InterestMatch.ALL) {
+                    return new RoaringBitmap();
+                }
+                continue;
+            }
+            bitmaps.add(bitmap);
+        }
+        if (bitmaps.isEmpty()) {
+            return new RoaringBitmap();
+        }
+        return match == InterestMatch.ALL
+                ? FastAggregation.and(bitmaps.iterator())
+                : FastAggregation.or(bitmaps.iterator());
+    }
+
+    private void reload(UUID userId) {
+        Set<Interest> interests = interestStore.findInterests(userId);
+        lock.writeLock().lock();
+        try {
+            state.replace(userId, interests);
+            recordChange(userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void recordChange(UUID userId) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.add(userId);
+        }
+    }
+
+    /**
+     * Ordinals and postings of one index generation; guarded by the index lock once published.
+     */
+    private static final class State {
+        private final Map<UUID, Integer> ordinals = new HashMap<>();
+        private final List<UUID> usersByOrdinal = new ArrayList<>();
+        private final EnumMap<Interest, RoaringBitmap> postings = new EnumMap<>(Interest.class);
+        // Users that received ordinals 0..n-1 in ID order when this generation was built
+        private UUID[] sortedUsers = new UUID[0];
+
+        private static State sortedBy(SortedMap<UUID, Set<Interest>> interestsByUser) {
+            State state = new State();
+            interestsByUser.forEach(state::add);
+            state.sortedUsers = state.usersByOrdinal.toArray(UUID[]::new);
+            state.postings.values().forEach(RoaringBitmap::runOptimize);
+            return state;
+        }
+
+        private int firstSortedOrdinalAfter(UUID after) {
+            if (after == null) {
+                return 0;
+            }
+            int index = Arrays.binarySearch(sortedUsers, after);
+            return index >= 0 ? index + 1 : -index - 1;
+        }
+
+        private void add(UUID userId, Set<Interest> interests) {
+            if (interests.isEmpty()) {
+                return;
+            }
+            int ordinal = ordinals.computeIfAbsent(userId, id -> {
+                usersByOrdinal.add(id);
+                return usersByOrdinal.size() - 1;
+            });
+            for (Interest interest : interests) {
+                postings.computeIfAbsent(interest, i -> new RoaringBitmap()).add(ordinal);
+            }
+        }
+
+        private void replace(UUID userId, Set<Interest> interests) {
+            if (interests.isEmpty()) {
+                remove(userId);
+                return;
+            }
+            Integer ordinal = ordinals.get(userId);
+            if (ordinal != null) {
+                // Keep the existing ordinal so refreshes do not grow the ordinal space
+                postings.values().forEach(bitmap -> bitmap.remove(ordinal));
+            }
+            add(userId, interests);
+        }
+
+        private void remove(UUID userId) {
+            Integer ordinal = ordinals.remove(userId);
+            if (ordinal == null) {
+                return;
+            }
+            usersByOrdinal.set(ordinal, null);
+            postings.values().forEach(bitmap -> bitmap.remove(ordinal));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.greenloop.user_service.services;
+
+import com.greenloop.user_service.enums.Interest;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * Persistence strategy for user interests.
+ * <p>
+ * Selected with {@code user-service.interests.storage}: {@code table} keeps
+ * one {@code user_interests} row per interest, {@code bitmask} packs all of a
+ * user's interests into the {@code users.interest_mask} column. Callers are
+ * responsible for checking that the user exists.
+ * </p>
+ *
+ * @see TableInterestStore
+ * @see BitmaskInterestStore
+ */
+public interface InterestStore {
+
+    /**
+     * Reads a user's interests.
+     *
+     * @param userId user's UUID
+     * @return the user's interests, empty if none
+     */
+    Set<Interest> findInterests(UUID userId);
+
+    /**
+     * Adds interests to a user, ignoring ones the user already has.
+     *
+     * @param userId    user's UUID
+     * @param interests interests to add
+     * @return the interests that were not present before this call
+     */
+    Set<Interest> addInterests(UUID userId, Set<Interest> interests);
+
+    /**
+     * Streams every stored (user, interests) pair. A user may be reported
+     * several times with partial sets; consumers must merge them.
+     *
+     * @param consumer callback receiving a user ID and some of its interests
+     */
+    void forEachUserInterests(BiConsumer<UUID, Set<Interest>> consumer);
+
+    /**
+     * Builds a native PostgreSQL query returning one {@code (user_id, interest)}
+     * row per stored interest, for bulk export with {@code COPY}.
+     *
+     * @param tablePrefix schema qualifier for table names, e.g. {@code "user_service."}, or empty
+     * @return SELECT statement with columns {@code user_id} and {@code interest}
+     */
+    String exportQuery(String tablePrefix);
+}
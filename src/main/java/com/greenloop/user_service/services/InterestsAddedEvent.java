@@ -0,0 +1,20 @@
+package com.greenloop.user_service.services;
+
+import com.greenloop.user_service.enums.Interest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * Application event raised when interests were added to a user. Applied to
+ * the {@link InterestIndex} after the surrounding transaction commits, so
+ * the index never holds interests that were rolled back.
+ */
+@Getter
+@AllArgsConstructor
+public class InterestsAddedEvent {
+    private final UUID userId;
+    private final Set<Interest> interests;
+}
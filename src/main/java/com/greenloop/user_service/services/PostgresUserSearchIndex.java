@@ -0,0 +1,82 @@
+package com.greenloop.user_service.services;
+
+import com.greenloop.user_service.dtos.UserSearchHit;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.hibernate.query.NativeQuery;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Searches usernames in PostgreSQL.
+ * <p>
+ * Prefix matches use the {@code lower(username) COLLATE "C"} index, which
+ * serves both the LIKE range and the sort, so the first matches are read in
+ * index order instead of sorting every match (byte order, as the in-memory
+ * trie orders names). Fuzzy matches use the pg_trgm GiST index, ordered by
+ * trigram distance ({@code <->}) so the index returns the closest names
+ * first. Each branch is limited to the requested window before the two are
+ * merged, so the cost depends on the page depth rather than on the table size.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "user-service.search.engine", havingValue = "postgres", matchIfMissing = true)
+public class PostgresUserSearchIndex implements UserSearchIndex {
+
+    private static final String PREFIX_MATCHES = "SELECT id, username, avatar_url, 0 AS tier, "
+            + "CAST(0 AS real) AS distance FROM {h-schema}users "
+            + "WHERE lower(username) COLLATE \"C\" LIKE :prefix ESCAPE '\\' "
+            + "ORDER BY lower(username) COLLATE \"C\" LIMIT :window";
+
+    private static final String FUZZY_MATCHES = "SELECT id, username, avatar_url, 1 AS tier, "
+            + "username <-> :query AS distance FROM {h-schema}users "
+            + "WHERE username % :query AND lower(username) NOT LIKE :prefix ESCAPE '\\' "
+            + "ORDER BY username <-> :query LIMIT :window";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserSearchHit> search(String query, int offset, int limit) {
+        String matches = query.length() >= MIN_FUZZY_LENGTH
+                ? "(" + PREFIX_MATCHES + ") UNION ALL (" + FUZZY_MATCHES + ")"
+                : PREFIX_MATCHES;
+        NativeQuery<?> search = entityManager.createNativeQuery("SELECT id, username, avatar_url FROM ("
+                + matches + ") hits ORDER BY tier, distance, lower(username) COLLATE \"C\" "
+                + "LIMIT :limit OFFSET :offset")
+                .unwrap(NativeQuery.class)
+                .addScalar("id", UUID.class)
+                .addScalar("username", String.class)
+                .addScalar("avatar_url", String.class)
+                .setParameter("prefix", likePrefix(query))
+                .setParameter("window", offset + limit)
+                .setParameter("limit", limit)
+                .setParameter("offset", offset);
+        if (query.length() >= MIN_FUZZY_LENGTH) {
+            search.setParameter("query", query);
+        }
+
+        List<UserSearchHit> hits = new ArrayList<>();
+        for (Object row : search.getResultList()) {
+            Object[] columns = (Object[]) row;
+            hits.add(new UserSearchHit((UUID) columns[0], (String) columns[1], (String) columns[2]));
+        }
+        return hits;
+    }
+
+    /**
+     * Lower-cases the query and escapes LIKE wildcards so it only matches literally.
+     */
+    private static String likePrefix(String query) {
+        return query.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+    }
+}
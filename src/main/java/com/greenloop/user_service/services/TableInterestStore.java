@@ -0,0 +1,63 @@
+package com.greenloop.user_service.services;
+
+import com.greenloop.user_service.enums.Interest;
+import com.greenloop.user_service.repos.UserInterestRepository;
+import com.greenloop.user_service.repos.UserInterestRow;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Stores each interest as a row in {@code user_interests}.
+ * <p>
+ * Adding interests reads the current set once and inserts the difference
+ * with a single {@code INSERT ... ON CONFLICT DO NOTHING}. Only interests
+ * whose rows that statement actually inserted are reported as added.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "user-service.interests.storage", havingValue = "table", matchIfMissing = true)
+public class TableInterestStore implements InterestStore {
+
+    private final UserInterestRepository interestRepository;
+
+    @Override
+    public Set<Interest> findInterests(UUID userId) {
+        List<Interest> interests = interestRepository.findInterestsByUserId(userId);
+        return interests.isEmpty() ? EnumSet.noneOf(Interest.class) : EnumSet.copyOf(interests);
+    }
+
+    @Override
+    public Set<Interest> addInterests(UUID userId, Set<Interest> interests) {
+        EnumSet<Interest> missing = EnumSet.noneOf(Interest.class);
+        missing.addAll(interests);
+        missing.removeAll(interestRepository.findInterestsByUserId(userId));
+
+        if (missing.isEmpty()) {
+            return missing;
+        }
+        // A concurrent request may have inserted some of them since the read
+        return interestRepository.insertIgnoringDuplicates(userId, missing);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachUserInterests(BiConsumer<UUID, Set<Interest>> consumer) {
+        try (Stream<UserInterestRow> rows = interestRepository.streamAllRows()) {
+            rows.forEach(row -> consumer.accept(row.getUserId(), EnumSet.of(row.getInterest())));
+        }
+    }
+
+    @Override
+    public String exportQuery(String tablePrefix) {
+        return "SELECT user_id, interest FROM " + tablePrefix + "user_interests";
+    }
+}
@@ -0,0 +1,109 @@
+package com.greenloop.user_service.services;
+
+import com.greenloop.user_service.enums.ExportFormat;
+import com.greenloop.user_service.exceptions.BulkExportUnsupportedException;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Bulk export of the users and interests tables with PostgreSQL {@code COPY}.
+ * <p>
+ * Rows are streamed by the driver's {@code CopyManager} from the server
+ * straight into the given output stream, so nothing is mapped to entities or
+ * buffered in memory and the export does not touch the persistence context
+ * or the caches. Each export holds one pooled connection for its duration.
+ * </p>
+ * <p>
+ * {@code COPY} is PostgreSQL-specific; on any other database
+ * {@link #requireCopySupport()} fails before a response is started.
+ * </p>
+ */
+@Slf4j
+@Service
+public class UserExportService {
+
+    private static final String USER_COLUMNS = "id, username, email, avatar_url, bio, birth_date, joined_date, "
+            + "events_attended, events_registered";
+
+    private final DataSource dataSource;
+    private final InterestStore interestStore;
+    private final String tablePrefix;
+
+    private volatile Boolean copySupported;
+
+    public UserExportService(DataSource dataSource, InterestStore interestStore,
+            @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema) {
+        this.dataSource = dataSource;
+        this.interestStore = interestStore;
+        this.tablePrefix = schema.isBlank() ? "" : schema + ".";
+    }
+
+    /**
+     * Checks that the database supports {@code COPY} exports.
+     *
+     * @throws BulkExportUnsupportedException if the database is not PostgreSQL
+     */
+    public void requireCopySupport() {
+        if (copySupported == null) {
+            try (Connection connection = dataSource.getConnection()) {
+                copySupported = connection.isWrapperFor(PGConnection.class);
+            } catch (SQLException e) {
+                throw new IllegalStateException("Could not check database for COPY support", e);
+            }
+        }
+        if (!copySupported) {
+            throw new BulkExportUnsupportedException("Bulk export requires a PostgreSQL database");
+        }
+    }
+
+    /**
+     * Writes every user profile to the output stream.
+     *
+     * @param format output format
+     * @param out    destination; written to but not closed
+     * @return number of rows exported
+     * @throws IOException if the export fails or the stream cannot be written
+     */
+    public long exportUsers(ExportFormat format, OutputStream out) throws IOException {
+        return copyOut("SELECT " + USER_COLUMNS + " FROM " + tablePrefix + "users", format, out);
+    }
+
+    /**
+     * Writes every (user, interest) pair to the output stream, whichever
+     * interest storage is configured.
+     *
+     * @param format output format
+     * @param out    destination; written to but not closed
+     * @return number of rows exported
+     * @throws IOException if the export fails or the stream cannot be written
+     */
+    public long exportInterests(ExportFormat format, OutputStream out) throws IOException {
+        return copyOut(interestStore.exportQuery(tablePrefix), format, out);
+    }
+
+    /**
+     * Runs {@code COPY (query) TO STDOUT} and pipes the result into the stream.
+     */
+    private long copyOut(String query, ExportFormat format, OutputStream out) throws IOException {
+        String options = format == ExportFormat.BINARY ? "FORMAT binary" : "FORMAT csv, HEADER";
+        String sql = "COPY (" + query + ") TO STDOUT WITH (" + options + ")";
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(true);
+            long rows = connection.unwrap(PGConnection.class).getCopyAPI().copyOut(sql, out);
+            log.info("Exported {} rows as {}", rows, format);
+            return rows;
+        } catch (SQLException e) {
+            throw new IOException("COPY export failed: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.greenloop.user_service.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.greenloop.user_service.cache.UserChangedEvent;
+import com.greenloop.user_service.dtos.ImportReport;
+import com.greenloop.user_service.dtos.ImportRowError;
+import com.greenloop.user_service.dtos.UserImportRow;
+import com.greenloop.user_service.enums.ImportFormat;
+import com.greenloop.user_service.models.User;
+import com.greenloop.user_service.repos.UserIdentityRow;
+import com.greenloop.user_service.repos.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+/**
+ * Bulk creation of user profiles from CSV or NDJSON uploads.
+ * <p>
+ * The body is parsed one row at a time, so memory use does not grow with the
+ * size of the upload. Valid rows are collected into chunks of
+ * {@value #CHUNK_SIZE}; each chunk is checked for id, email and username
+ * conflicts with one query and inserted with one multi-row statement in its
+ * own transaction. Rows written before a failure stay committed: a database
+ * error stops the import after the failing chunk, and malformed input stops
+ * it after writing the rows parsed so far.
+ * </p>
+ * <p>
+ * CSV uploads need a header row naming the columns ({@code id, email,
+ * username, avatarUrl, bio, birthDate}); NDJSON uploads have one JSON object
+ * per line with the same fields. Row numbers in the report count data rows
+ * from 1.
+ * </p>
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    static final int CHUNK_SIZE = 1000;
+    static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int MAX_TEXT_LENGTH = 255;
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectReader ndjsonReader;
+    private final ObjectReader csvReader;
+
+    public UserImportService(UserRepository userRepository, TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher, ObjectMapper objectMapper) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.ndjsonReader = objectMapper.readerFor(UserImportRow.class);
+        this.csvReader = new CsvMapper().readerFor(UserImportRow.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    /**
+     * Imports users from the given upload.
+     *
+     * @param body   request body stream; read to the end but not closed
+     * @param format upload format
+     * @return counts of created and failed rows with per-row errors
+     * @throws IOException if the body cannot be read
+     */
+    public ImportReport importUsers(InputStream body, ImportFormat format) throws IOException {
+        Report report = new Report();
+        List<Candidate> chunk = new ArrayList<>(CHUNK_SIZE);
+        ObjectReader reader = format == ImportFormat.CSV ? csvReader : ndjsonReader;
+
+        try (MappingIterator<UserImportRow> rows = reader.readValues(body)) {
+            while (true) {
+                UserImportRow row;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    row = rows.nextValue();
+                } catch (JsonProcessingException e) {
+                    // The parser cannot resynchronise after malformed input, so stop here
+                    report.total++;
+                    report.fail(report.total, null, "Malformed row: " + e.getOriginalMessage());
+                    report.completed = false;
+                    break;
+                }
+
+                long rowNumber = ++report.total;
+                String error = validate(row);
+                if (error != null) {
+                    report.fail(rowNumber, row.getId(), error);
+                    continue;
+                }
+                chunk.add(new Candidate(rowNumber, toUser(row)));
+                if (chunk.size() == CHUNK_SIZE && !writeChunk(chunk, report)) {
+                    break;
+                }
+            }
+        }
+        // Rows validated before a malformed row are still written; a failed chunk leaves nothing pending
+        writeChunk(chunk, report);
+
+        log.info("User import finished: {} rows, {} created, {} failed", report.total, report.created, report.failed);
+        return report.toResponse();
+    }
+
+    /**
+     * Inserts one chunk of validated rows and clears it.
+     *
+     * @return false if the database rejected the chunk and the import should stop
+     */
+    private boolean writeChunk(List<Candidate> chunk, Report report) {
+        if (chunk.isEmpty()) {
+            return true;
+        }
+        try {
+            // Outcomes are collected per chunk and only merged once the chunk commits
+            Report outcome = transactionTemplate.execute(status -> insertChunk(chunk));
+            report.merge(outcome);
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("User import chunk starting at row {} failed", chunk.get(0).row, e);
+            chunk.forEach(candidate -> report.fail(candidate.row, candidate.user.getId().toString(),
+                    "Not imported: database error"));
+            report.completed = false;
+            return false;
+        } finally {
+            chunk.clear();
+        }
+    }
+
+    private Report insertChunk(List<Candidate> chunk) {
+        Report report = new Report();
+        Set<UUID> ids = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        Set<String> usernames = new HashSet<>();
+        List<Candidate> unique = new ArrayList<>(chunk.size());
+        for (Candidate candidate : chunk) {
+            User user = candidate.user;
+            // Only accepted rows claim their keys, so a rejected row cannot shadow a later valid one
+            if (ids.contains(user.getId()) || emails.contains(user.getEmail())
+                    || usernames.contains(user.getUsername())) {
+                report.fail(candidate.row, user.getId().toString(), "Duplicate id, email or username within upload");
+                continue;
+            }
+            ids.add(user.getId());
+            emails.add(user.getEmail());
+            usernames.add(user.getUsername());
+            unique.add(candidate);
+        }
+
+        Set<UUID> takenIds = new HashSet<>();
+        Set<String> takenEmails = new HashSet<>();
+        Set<String> takenUsernames = new HashSet<>();
+        for (UserIdentityRow existing : userRepository.findIdentityConflicts(ids, emails, usernames)) {
+            takenIds.add(existing.getId());
+            takenEmails.add(existing.getEmail());
+            takenUsernames.add(existing.getUsername());
+        }
+
+        List<Candidate> accepted = new ArrayList<>(unique.size());
+        for (Candidate candidate : unique) {
+            User user = candidate.user;
+            if (takenIds.contains(user.getId())) {
+                report.fail(candidate.row, user.getId().toString(), "User ID already exists");
+            } else if (takenEmails.contains(user.getEmail())) {
+                report.fail(candidate.row, user.getId().toString(), "Email already in use");
+            } else if (takenUsernames.contains(user.getUsername())) {
+                report.fail(candidate.row, user.getId().toString(), "Username already taken");
+            } else {
+                accepted.add(candidate);
+            }
+        }
+
+        Set<UUID> inserted = new HashSet<>(userRepository.insertIgnoringConflicts(
+                accepted.stream().map(Candidate::user).toList()));
+        report.created += inserted.size();
+        if (!inserted.isEmpty()) {
+            eventPublisher.publishEvent(UserChangedEvent.of(List.copyOf(inserted)));
+        }
+        if (inserted.size() < accepted.size()) {
+            // Rows created concurrently by another request after the conflict check
+            for (Candidate candidate : accepted) {
+                if (!inserted.contains(candidate.user.getId())) {
+                    report.fail(candidate.row, candidate.user.getId().toString(),
+                            "Skipped: conflicting key written concurrently; resubmit this row");
+                }
+            }
+        }
+        return report;
+    }
+
+    private String validate(UserImportRow row) {
+        if (isBlank(row.getId())) {
+            return "id is required";
+        }
+        try {
+            UUID.fromString(row.getId().trim());
+        } catch (IllegalArgumentException e) {
+            return "id is not a valid UUID";
+        }
+        if (isBlank(row.getEmail()) || !row.getEmail().contains("@")) {
+            return "email is missing or invalid";
+        }
+        if (isBlank(row.getUsername())) {
+            return "username is required";
+        }
+        for (String value : List.of(row.getEmail(), row.getUsername(),
+                Objects.toString(row.getAvatarUrl(), ""), Objects.toString(row.getBio(), ""))) {
+            if (value.length() > MAX_TEXT_LENGTH) {
+                return "Text fields are limited to " + MAX_TEXT_LENGTH + " characters";
+            }
+        }
+        if (!isBlank(row.getBirthDate())) {
+            try {
+                LocalDate.parse(row.getBirthDate().trim());
+            } catch (DateTimeParseException e) {
+                return "birthDate must be an ISO date (yyyy-MM-dd)";
+            }
+        }
+        return null;
+    }
+
+    private User toUser(UserImportRow row) {
+        return User.builder()
+                .id(UUID.fromString(row.getId().trim()))
+                .email(row.getEmail().trim())
+                .username(row.getUsername().trim())
+                .avatarUrl(blankToNull(row.getAvatarUrl()))
+                .bio(blankToNull(row.getBio()))
+                .birthDate(isBlank(row.getBirthDate()) ? null : LocalDate.parse(row.getBirthDate().trim()))
+                .joinedDate(LocalDate.now())
+                .build();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String blankToNull(String value) {
+        return isBlank(value) ? null : value;
+    }
+
+    private record Candidate(long row, User user) {
+    }
+
+    /**
+     * Mutable accumulator for the import report; errors beyond
+     * {@value #MAX_REPORTED_ERRORS} are counted but not listed.
+     */
+    private static final class Report {
+        private long total;
+        private long created;
+        private long failed;
+        private boolean completed = true;
+        private boolean errorsTruncated;
+        private final List<ImportRowError> errors = new ArrayList<>();
+
+        void fail(long row, String id, String message) {
+            failed++;
+            addError(row, id, message);
+        }
+
+        void merge(Report chunk) {
+            created += chunk.created;
+            failed += chunk.failed;
+            errorsTruncated |= chunk.errorsTruncated;
+            chunk.errors.forEach(error -> addError(error.getRow(), error.getId(), error.getMessage()));
+        }
+
+        void addError(long row, String id, String message) {
+            if (errors.size() >= MAX_REPORTED_ERRORS) {
+                errorsTruncated = true;
+                return;
+            }
+            errors.add(ImportRowError.builder().row(row).id(id).message(message).build());
+        }
+
+        ImportReport toResponse() {
+            return ImportReport.builder()
+                    .total(total)
+                    .created(created)
+                    .failed(failed)
+                    .completed(completed)
+                    .errors(errors)
+                    .errorsTruncated(errorsTruncated)
+                    .build();
+        }
+    }
+}
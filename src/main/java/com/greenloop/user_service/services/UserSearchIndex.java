@@ -0,0 +1,35 @@
+package com.greenloop.user_service.services;
+
+import com.greenloop.user_service.dtos.UserSearchHit;
+
+import java.util.*;
+
+/**
+ * Username search used by the "find friends" autocomplete.
+ * <p>
+ * Selected with {@code user-service.search.engine}: {@code postgres} queries
+ * the trigram and prefix indexes created by {@code db/003_username_search.sql},
+ * {@code in-memory} keeps a trie of usernames in each replica for databases
+ * without pg_trgm, such as H2. Both rank case-insensitive prefix matches
+ * first, alphabetically, followed by fuzzy matches for queries of at least
+ * {@value #MIN_FUZZY_LENGTH} characters, closest first.
+ * </p>
+ *
+ * @see PostgresUserSearchIndex
+ * @see InMemoryUserSearchIndex
+ */
+public interface UserSearchIndex {
+
+    /** Shortest query for which fuzzy matches are returned. */
+    int MIN_FUZZY_LENGTH = 3;
+
+    /**
+     * Finds users whose username matches the query.
+     *
+     * @param query  search text; not blank
+     * @param offset number of ranked matches to skip
+     * @param limit  maximum number of matches to return
+     * @return ranked matches
+     */
+    List<UserSearchHit> search(String query, int offset, int limit);
+}
@@ -1,70 +1,186 @@
 package com.greenloop.user_service.services;
 
+import com.greenloop.user_service.cache.UserChangedEvent;
+import com.greenloop.user_service.configs.CacheConfig;
+import com.greenloop.user_service.dtos.BatchUserResult;
 import com.greenloop.user_service.dtos.CreateUserRequest;
+import com.greenloop.user_service.dtos.EventCounterBulkResponse;
+import com.greenloop.user_service.dtos.EventCounterRequest;
+import com.greenloop.user_service.dtos.EventCounterUpdate;
+import com.greenloop.user_service.dtos.InterestMatchResponse;
 import com.greenloop.user_service.dtos.UpdateAvatarRequest;
 import com.greenloop.user_service.dtos.UpdateUserRequest;
 import com.greenloop.user_service.dtos.UserInterestsResponse;
+import com.greenloop.user_service.dtos.UserPageResponse;
 import com.greenloop.user_service.dtos.UserResponse;
+import com.greenloop.user_service.dtos.UserSearchHit;
+import com.greenloop.user_service.dtos.UserSearchResponse;
 import com.greenloop.user_service.enums.Interest;
+import com.greenloop.user_service.enums.InterestMatch;
+import com.greenloop.user_service.exceptions.UserConflictException;
 import com.greenloop.user_service.exceptions.UserNotFoundException;
 import com.greenloop.user_service.models.User;
-import com.greenloop.user_service.models.UserInterest;
-import com.greenloop.user_service.repos.UserInterestRepository;
 import com.greenloop.user_service.repos.UserRepository;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Recover;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service layer for user profile and interest management.
  * <p>
  * Handles business logic for user CRUD operations, avatar updates,
  * interest tracking, and DTO mapping. Coordinates with UserRepository
- * and UserInterestRepository for database persistence.
+ * and the configured InterestStore for database persistence.
+ * </p>
+ * <p>
+ * Every write publishes a {@link UserChangedEvent} so that caches on other
+ * replicas are invalidated once the change commits.
  * </p>
  *
  * @see User
- * @see UserInterest
  * @see UserRepository
- * @see UserInterestRepository
+ * @see InterestStore
  */
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
+    private static final int BATCH_QUERY_CHUNK_SIZE = 1000;
+    private static final int COUNTER_UPDATE_CHUNK_SIZE = 500;
+    private static final int MAX_SEARCH_QUERY_LENGTH = 50;
+    private static final int MAX_SEARCH_RESULTS = 1000;
+
     private final UserRepository userRepository;
-    private final UserInterestRepository interestRepository;
+    private final InterestStore interestStore;
+    private final InterestIndex interestIndex;
+    private final UserSearchIndex userSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
 
     /**
-     * Retrieves all user profiles from the database.
+     * Retrieves one page of user profiles using keyset pagination.
+     * <p>
+     * Users are ordered by (joinedDate, id). The cursor encodes the position of
+     * the last user on the previous page, so each page is a bounded index range
+     * scan regardless of how deep the caller has paged.
+     * </p>
      *
-     * @return list of all users as UserResponse DTOs
+     * @param cursor opaque cursor from a previous page, or null for the first page
+     * @param size   maximum number of users to return
+     * @return page of users with the cursor for the next page
+     * @throws IllegalArgumentException if the cursor is malformed
      */
-    public List<UserResponse> getAllUsers() {
-        return userRepository.findAll()
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public UserPageResponse getUsersPage(String cursor, int size) {
+        // Fetch one extra row to learn whether another page exists
+        Limit limit = Limit.of(size + 1);
+        List<UserResponse> users;
+        if (cursor == null || cursor.isBlank()) {
+            users = userRepository.findFirstPage(limit);
+        } else {
+            String[] position = decodeCursor(cursor);
+            users = userRepository.findPageAfter(LocalDate.parse(position[0]), UUID.fromString(position[1]), limit);
+        }
+
+        boolean hasMore = users.size() > size;
+        List<UserResponse> page = hasMore ? users.subList(0, size) : users;
+
+        return UserPageResponse.builder()
+                .users(page)
+                .nextCursor(hasMore ? encodeCursor(page.get(page.size() - 1)) : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * Streams every user profile to the given consumer in (joinedDate, id) order.
+     * <p>
+     * Rows are read through a forward-only JDBC cursor straight into DTOs, so
+     * nothing accumulates in the persistence context and memory stays flat
+     * regardless of table size. Must be called through the Spring proxy so the
+     * read-only transaction keeps the cursor open.
+     * </p>
+     *
+     * @param consumer callback invoked once per user
+     */
+    @Transactional(readOnly = true)
+    public void streamAllUsers(Consumer<UserResponse> consumer) {
+        try (Stream<UserResponse> users = userRepository.streamAllOrdered()) {
+            users.forEach(consumer);
+        }
     }
 
     /**
      * Retrieves a user by their unique ID.
+     * <p>
+     * Read-through cached in {@link CacheConfig#USER_PROFILES}; write methods
+     * refresh or evict the entry for the affected user.
+     * </p>
      *
      * @param id user's UUID
      * @return user profile as UserResponse DTO
      * @throws UserNotFoundException if no user exists with the given ID
      */
+    @Cacheable(cacheNames = CacheConfig.USER_PROFILES, key = "#id")
+    @Transactional(readOnly = true)
     public UserResponse getUserById(UUID id) {
-        return userRepository.findById(id)
-                .map(this::mapToResponse)
+        return userRepository.findResponseById(id)
                 .orElseThrow(() -> new UserNotFoundException("User with ID " + id + " was not found."));
     }
 
+    /**
+     * Resolves many user profiles at once.
+     * <p>
+     * Distinct IDs are loaded with a single IN query per chunk of
+     * {@value #BATCH_QUERY_CHUNK_SIZE} IDs. Results follow the request order,
+     * including duplicates, and IDs with no matching user are returned with
+     * {@code found = false}.
+     * </p>
+     *
+     * @param ids user UUIDs to resolve
+     * @return one result per requested ID, in request order
+     */
+    @Transactional(readOnly = true)
+    public List<BatchUserResult> getUsersByIds(List<UUID> ids) {
+        List<UUID> distinctIds = ids.stream().distinct().toList();
+        Map<UUID, UserResponse> profiles = new HashMap<>();
+        for (int from = 0; from < distinctIds.size(); from += BATCH_QUERY_CHUNK_SIZE) {
+            List<UUID> chunk = distinctIds.subList(from, Math.min(from + BATCH_QUERY_CHUNK_SIZE, distinctIds.size()));
+            profiles.putAll(userRepository.findResponsesByIdIn(chunk).stream()
+                    .collect(Collectors.toMap(UserResponse::getId, Function.identity())));
+        }
+
+        return ids.stream()
+                .map(id -> BatchUserResult.builder()
+                        .id(id)
+                        .found(profiles.containsKey(id))
+                        .user(profiles.get(id))
+                        .build())
+                .toList();
+    }
+
     /**
      * Creates a new user with pre-authenticated credentials.
      * 
@@ -72,6 +188,7 @@ public class UserService {
      * @param userId    authenticated user ID from auth service
      * @param userEmail authenticated user email from auth service
      */
+    @CachePut(cacheNames = CacheConfig.USER_PROFILES, key = "#userId")
     public UserResponse createUser(CreateUserRequest request, UUID userId, String userEmail) {
         User user = User.builder()
                 .id(userId)
@@ -83,22 +200,39 @@ public class UserService {
                 .build();
 
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.of(userId));
         return mapToResponse(savedUser);
     }
 
     /**
      * Updates an existing user's profile fields.
      * Only non-null fields in the request are updated.
+     * <p>
+     * Writes are checked against the user's version. Without an expected
+     * version the patch is blind, so when a concurrent write wins it is
+     * reapplied to the fresh state, up to user-service.updates.max-attempts
+     * times in total. With one, a user whose version has moved on is a
+     * conflict.
+     * </p>
      *
-     * @param id      user's UUID
-     * @param request partial update DTO containing modified fields
+     * @param id              user's UUID
+     * @param request         partial update DTO containing modified fields
+     * @param expectedVersion version the client last saw, or null to apply regardless
      * @return updated user profile as UserResponse DTO
      * @throws UserNotFoundException if no user exists with the given ID
+     * @throws UserConflictException if the version does not match, or concurrent
+     *                               writes kept winning; carries the current profile
      */
+    @Retryable(retryFor = OptimisticLockingFailureException.class,
+            maxAttemptsExpression = "${user-service.updates.max-attempts:3}",
+            backoff = @Backoff(delay = 10, maxDelay = 100, multiplier = 2, random = true),
+            recover = "updateUserConflict")
     @Transactional
-    public UserResponse updateUser(UUID id, UpdateUserRequest request) {
+    @CachePut(cacheNames = CacheConfig.USER_PROFILES, key = "#id")
+    public UserResponse updateUser(UUID id, UpdateUserRequest request, Long expectedVersion) {
         return userRepository.findById(id)
                 .map(user -> {
+                    requireVersion(user, expectedVersion);
                     // Update only non-null fields
                     if (request.getUsername() != null) {
                         user.setUsername(request.getUsername());
@@ -110,40 +244,192 @@ public class UserService {
                         user.setBirthDate(request.getBirthDate());
                     }
 
-                    return mapToResponse(userRepository.save(user));
+                    // Flushed so the response carries the incremented version
+                    User savedUser = userRepository.saveAndFlush(user);
+                    eventPublisher.publishEvent(UserChangedEvent.of(id));
+                    return mapToResponse(savedUser);
                 })
                 .orElseThrow(() -> new UserNotFoundException("User with ID " + id + " was not found."));
     }
 
     /**
-     * Updates a user's avatar URL.
+     * Updates a user's avatar URL, retrying and reporting conflicts like
+     * {@link #updateUser(UUID, UpdateUserRequest, Long)}.
      *
-     * @param id      user's UUID
-     * @param request DTO containing new avatar URL
+     * @param id              user's UUID
+     * @param request         DTO containing new avatar URL
+     * @param expectedVersion version the client last saw, or null to apply regardless
      * @return updated user profile as UserResponse DTO
      * @throws UserNotFoundException if no user exists with the given ID
+     * @throws UserConflictException if the version does not match, or concurrent
+     *                               writes kept winning; carries the current profile
      */
+    @Retryable(retryFor = OptimisticLockingFailureException.class,
+            maxAttemptsExpression = "${user-service.updates.max-attempts:3}",
+            backoff = @Backoff(delay = 10, maxDelay = 100, multiplier = 2, random = true),
+            recover = "updateAvatarConflict")
     @Transactional
-    public UserResponse updateAvatar(UUID id, UpdateAvatarRequest request) {
+    @CachePut(cacheNames = CacheConfig.USER_PROFILES, key = "#id")
+    public UserResponse updateAvatar(UUID id, UpdateAvatarRequest request, Long expectedVersion) {
         return userRepository.findById(id)
                 .map(user -> {
+                    requireVersion(user, expectedVersion);
                     user.setAvatarUrl(request.getAvatarUrl());
-                    return mapToResponse(userRepository.save(user));
+                    // Flushed so the response carries the incremented version
+                    User savedUser = userRepository.saveAndFlush(user);
+                    eventPublisher.publishEvent(UserChangedEvent.of(id));
+                    return mapToResponse(savedUser);
                 })
                 .orElseThrow(() -> new UserNotFoundException("User with ID " + id + " was not found."));
     }
 
+    /**
+     * Reports a profile update whose retries all lost to concurrent writes.
+     */
+    @Recover
+    UserResponse updateUserConflict(RuntimeException e, UUID id, UpdateUserRequest request, Long expectedVersion) {
+        throw recoverUpdate(e, id);
+    }
+
+    /**
+     * Reports an avatar update whose retries all lost to concurrent writes.
+     */
+    @Recover
+    UserResponse updateAvatarConflict(RuntimeException e, UUID id, UpdateAvatarRequest request,
+            Long expectedVersion) {
+        throw recoverUpdate(e, id);
+    }
+
+    /**
+     * Adds deltas to a user's event counters.
+     * <p>
+     * Applied with a single atomic UPDATE, so concurrent check-ins never lose
+     * increments; counters are clamped at zero.
+     * </p>
+     *
+     * @param id      user's UUID
+     * @param request deltas for eventsAttended and eventsRegistered (may be negative)
+     * @return updated user profile as UserResponse DTO
+     * @throws UserNotFoundException if no user exists with the given ID
+     */
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.USER_PROFILES, key = "#id")
+    public UserResponse adjustEventCounters(UUID id, EventCounterRequest request) {
+        if (userRepository.addToEventCounters(id, request.getAttendedDelta(), request.getRegisteredDelta()) == 0) {
+            throw new UserNotFoundException("User with ID " + id + " was not found.");
+        }
+        eventPublisher.publishEvent(UserChangedEvent.of(id));
+        return userRepository.findResponseById(id)
+                .orElseThrow(() -> new UserNotFoundException("User with ID " + id + " was not found."));
+    }
+
+    /**
+     * Adds deltas to the event counters of many users at once.
+     * <p>
+     * Deltas for the same user are summed, then applied with one atomic UPDATE
+     * per chunk of {@value #COUNTER_UPDATE_CHUNK_SIZE} users. Unknown users are
+     * skipped. Cached profiles of the affected users are refreshed on commit.
+     * </p>
+     *
+     * @param updates per-user counter deltas
+     * @return number of distinct users requested and actually updated
+     * @throws IllegalArgumentException if a user's summed deltas overflow an int
+     */
+    @Transactional
+    public EventCounterBulkResponse adjustEventCounters(List<EventCounterUpdate> updates) {
+        Map<UUID, EventCounterUpdate> merged = new LinkedHashMap<>();
+        try {
+            for (EventCounterUpdate update : updates) {
+                merged.merge(update.getUserId(), update, (a, b) -> EventCounterUpdate.builder()
+                        .userId(a.getUserId())
+                        .attendedDelta(Math.addExact(a.getAttendedDelta(), b.getAttendedDelta()))
+                        .registeredDelta(Math.addExact(a.getRegisteredDelta(), b.getRegisteredDelta()))
+                        .build());
+            }
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Summed counter deltas for a user are out of range");
+        }
+
+        List<EventCounterUpdate> distinct = new ArrayList<>(merged.values());
+        int updated = 0;
+        for (int from = 0; from < distinct.size(); from += COUNTER_UPDATE_CHUNK_SIZE) {
+            updated += userRepository.bulkAddToEventCounters(
+                    distinct.subList(from, Math.min(from + COUNTER_UPDATE_CHUNK_SIZE, distinct.size())));
+        }
+        if (updated > 0) {
+            refreshCachedProfiles(merged.keySet());
+            eventPublisher.publishEvent(UserChangedEvent.of(List.copyOf(merged.keySet())));
+        }
+
+        return EventCounterBulkResponse.builder()
+                .requested(distinct.size())
+                .updated(updated)
+                .build();
+    }
+
     /**
      * Deletes a user permanently from the database.
      *
      * @param id user's UUID
      * @throws UserNotFoundException if no user exists with the given ID
      */
+    @CacheEvict(cacheNames = CacheConfig.USER_PROFILES, key = "#id")
     public void deleteUser(UUID id) {
         if (!userRepository.existsById(id)) {
             throw new UserNotFoundException("User with ID " + id + " was not found.");
         }
         userRepository.deleteById(id);
+        interestIndex.removeUser(id);
+        eventPublisher.publishEvent(UserChangedEvent.of(id));
+    }
+
+    /**
+     * Rejects the update when the client expected a different version than the one loaded.
+     */
+    private void requireVersion(User user, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(user.getVersion())) {
+            throw new UserConflictException("User with ID " + user.getId() + " has changed since version "
+                    + expectedVersion + ".", mapToResponse(user));
+        }
+    }
+
+    private RuntimeException recoverUpdate(RuntimeException e, UUID id) {
+        // Recovery also receives exceptions that were never retried; only lost races become conflicts
+        if (!(e instanceof OptimisticLockingFailureException)) {
+            return e;
+        }
+        UserResponse current = userRepository.findResponseById(id)
+                .orElseThrow(() -> new UserNotFoundException("User with ID " + id + " was not found."));
+        return new UserConflictException("User with ID " + id + " kept changing concurrently; retry the update.",
+                current);
+    }
+
+    /**
+     * Encodes the keyset position of a user as an opaque URL-safe cursor.
+     */
+    private String encodeCursor(UserResponse last) {
+        String position = last.getJoinedDate() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor into its joinedDate and id components.
+     */
+    private String[] decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = position.split("\\|", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            // Validate both parts eagerly so a bad cursor surfaces as a client error
+            LocalDate.parse(parts[0]);
+            UUID.fromString(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
     }
 
     /**
@@ -152,7 +438,7 @@ public class UserService {
      * @param user the User entity
      * @return UserResponse DTO with profile data
      */
-    private UserResponse mapToResponse(User user) {
+    static UserResponse mapToResponse(User user) {
         return UserResponse.builder()
                 .id(user.getId())
                 .email(user.getEmail())
@@ -163,9 +449,45 @@ public class UserService {
                 .joinedDate(user.getJoinedDate())
                 .eventsAttended(user.getEventsAttended())
                 .eventsRegistered(user.getEventsRegistered())
+                .version(user.getVersion())
                 .build();
     }
 
+    /**
+     * Replaces the cached profiles of users changed by a write that has no
+     * cache annotation, once the surrounding transaction commits.
+     * <p>
+     * Profiles are reloaded inside the write's transaction and put rather
+     * than evicted: a read-through put that read the old row can land after
+     * an eviction and stay cached, but never replaces a newer version (see
+     * {@link com.greenloop.user_service.cache.VersionedCaffeineCache}).
+     * </p>
+     *
+     * @param userIds users whose profiles changed
+     */
+    private void refreshCachedProfiles(Collection<UUID> userIds) {
+        Cache profiles = cacheManager.getCache(CacheConfig.USER_PROFILES);
+        List<UUID> ids = List.copyOf(userIds);
+        for (int from = 0; from < ids.size(); from += BATCH_QUERY_CHUNK_SIZE) {
+            userRepository.findResponsesByIdIn(ids.subList(from, Math.min(from + BATCH_QUERY_CHUNK_SIZE, ids.size())))
+                    .forEach(profile -> profiles.put(profile.getId(), profile));
+        }
+    }
+
+    /**
+     * Retrieves the current version of a user's profile and interests.
+     * Every change to either increments it, so it identifies a representation for conditional requests.
+     *
+     * @param userId user's UUID
+     * @return current version
+     * @throws UserNotFoundException if no user exists with the given ID
+     */
+    @Transactional(readOnly = true)
+    public long getUserVersion(UUID userId) {
+        return userRepository.findVersionById(userId)
+                .orElseThrow(() -> new UserNotFoundException("User with ID " + userId + " was not found."));
+    }
+
     /**
      * Retrieves all interests associated with a user.
      *
@@ -173,53 +495,125 @@ public class UserService {
      * @return UserInterestsResponse DTO containing list of interest strings
      */
     public UserInterestsResponse getInterests(UUID userId) {
-        List<UserInterest> userInterests = interestRepository.findByUserId(userId);
-        return mapInterestsResponse(userInterests);
+        return mapInterestsResponse(interestStore.findInterests(userId));
     }
 
     /**
      * Adds new interests to a user's profile.
-     * Skips interests that already exist for the user.
+     * Skips interests that already exist for the user. The user's version only
+     * moves when at least one interest was added, so re-sending the current
+     * interests keeps ETags and cached profiles valid.
+     * <p>
+     * Runs a constant number of statements regardless of how many interests
+     * are submitted; see the configured {@link InterestStore} for details.
+     * </p>
      *
      * @param userId    user's UUID
      * @param interests list of interest strings (converted to Interest enum)
      * @return UserInterestsResponse DTO with added interests
-     * @throws UserNotFoundException if no user exists with the given ID
+     * @throws UserNotFoundException    if no user exists with the given ID
+     * @throws IllegalArgumentException if an interest string is not a known Interest
      */
+    @Transactional
     public UserInterestsResponse addInterests(UUID userId, List<String> interests) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("User with ID " + userId + " was not found."));
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException("User with ID " + userId + " was not found.");
+        }
 
-        List<UserInterest> userInterests = new ArrayList<>();
+        EnumSet<Interest> requested = EnumSet.noneOf(Interest.class);
         for (String interestString : interests) {
-            Interest interestEnum = Interest.valueOf(interestString.toUpperCase());
-            boolean exists = interestRepository.existsByUserIdAndInterest(userId, interestEnum);
-
-            if (!exists) {
-                UserInterest ui = UserInterest.builder()
-                        .user(user)
-                        .interest(interestEnum)
-                        .build();
-                userInterests.add(ui);
-            }
+            requested.add(Interest.valueOf(interestString.toUpperCase()));
+        }
+
+        Set<Interest> added = interestStore.addInterests(userId, requested);
+        if (!added.isEmpty()) {
+            userRepository.incrementVersion(userId);
+            eventPublisher.publishEvent(new InterestsAddedEvent(userId, added));
+            // Cached profiles carry the old version, so they are replaced on this replica too
+            refreshCachedProfiles(List.of(userId));
+            eventPublisher.publishEvent(UserChangedEvent.of(userId));
+        }
+        return mapInterestsResponse(added);
+    }
+
+    /**
+     * Searches users by username for autocomplete.
+     * <p>
+     * Usernames starting with the query (case-insensitive) come first,
+     * alphabetically, followed by close misspellings; see the configured
+     * {@link UserSearchIndex}. Only the first {@value #MAX_SEARCH_RESULTS}
+     * matches can be paged through.
+     * </p>
+     *
+     * @param query username or its beginning
+     * @param page  zero-based page number
+     * @param size  page size
+     * @return matching users for the requested page and whether more follow
+     * @throws IllegalArgumentException if the query is blank or too long, or the page is too deep
+     */
+    public UserSearchResponse searchUsers(String query, int page, int size) {
+        String normalized = query == null ? "" : query.strip();
+        if (normalized.isEmpty() || normalized.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Search query must be between 1 and " + MAX_SEARCH_QUERY_LENGTH + " characters");
+        }
+        if ((long) page * size + size > MAX_SEARCH_RESULTS) {
+            throw new IllegalArgumentException("Only the first " + MAX_SEARCH_RESULTS + " search results can be paged");
         }
 
-        if (!userInterests.isEmpty()) {
-            interestRepository.saveAll(userInterests);
+        List<UserSearchHit> hits = userSearchIndex.search(normalized, page * size, size + 1);
+        boolean hasMore = hits.size() > size;
+        return UserSearchResponse.builder()
+                .users(hasMore ? hits.subList(0, size) : hits)
+                .page(page)
+                .size(size)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * Finds users by interest using the in-memory {@link InterestIndex}.
+     *
+     * Matches are ordered by user ID; the cursor is the last user ID of the
+     * previous page, so pages stay consistent across replicas.
+     *
+     * @param interests interest strings to match (converted to Interest enum)
+     * @param match     ALL to require every interest, ANY to require at least one
+     * @param cursor    nextCursor from a previous page, or null for the first page
+     * @param size      page size
+     * @return IDs of matching users for the requested page, the total match count
+     *         and the cursor for the next page
+     * @throws IllegalArgumentException if no interests are given, one is unknown or the cursor is malformed
+     */
+    public InterestMatchResponse findUsersByInterests(List<String> interests, InterestMatch match, String cursor,
+            int size) {
+        if (interests.isEmpty()) {
+            throw new IllegalArgumentException("At least one interest is required");
+        }
+        EnumSet<Interest> requested = EnumSet.noneOf(Interest.class);
+        for (String interestString : interests) {
+            requested.add(Interest.valueOf(interestString.toUpperCase()));
+        }
+        UUID after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                after = UUID.fromString(cursor);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
         }
-        return mapInterestsResponse(userInterests);
+        return interestIndex.find(requested, match, after, size);
     }
 
     /**
-     * Maps a list of UserInterest entities to a UserInterestsResponse DTO.
+     * Maps a collection of interests to a UserInterestsResponse DTO.
      *
-     * @param userInterests list of UserInterest entities
+     * @param interests interests to include
      * @return UserInterestsResponse DTO with interest strings
      */
-    private UserInterestsResponse mapInterestsResponse(List<UserInterest> userInterests) {
-        List<String> interestStrings = userInterests.stream()
-                .map(UserInterest::getInterest)
-                .map(Object::toString)
+    static UserInterestsResponse mapInterestsResponse(Collection<Interest> interests) {
+        List<String> interestStrings = interests.stream()
+                .map(Interest::name)
                 .toList();
 
         return UserInterestsResponse.builder()
@@ -0,0 +1,188 @@
+package com.greenloop.user_service.web;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.greenloop.user_service.cache.PreSerializedJson;
+import com.greenloop.user_service.dtos.ApiResponse;
+
+/**
+ * Writes {@link ApiResponse} envelopes as JSON with a streaming generator.
+ * <p>
+ * The output is the same as Jackson's bean serialization of the envelope,
+ * but the field names and success messages are encoded to UTF-8 once and
+ * reused. The timestamp is formatted once per {@link ResponseTimestamps}
+ * tick, and {@code data} is written straight into the same generator. Only
+ * the data itself goes through the application's {@link ObjectMapper}, so its
+ * configuration still applies.
+ * </p>
+ * <p>
+ * Registered ahead of the Jackson converter for JSON only; other media types
+ * are left to the remaining converters. Envelopes are never read.
+ * </p>
+ * <p>
+ * Spring MVC flushes the response after writing a body, before the container
+ * knows its length, so JSON responses normally go out chunked and are
+ * compressed regardless of {@code server.compression.min-response-size}. When
+ * the whole envelope fits the generator's buffer, this converter sets
+ * Content-Length itself before the body is written. Larger envelopes are
+ * streamed as before.
+ * </p>
+ */
+public class ApiResponseJsonConverter implements HttpMessageConverter<ApiResponse<?>> {
+
+    private static final List<MediaType> SUPPORTED_MEDIA_TYPES = List.of(MediaType.APPLICATION_JSON,
+            new MediaType("application", "*+json"));
+
+    // Success messages are constants in the controllers; the cap keeps ad-hoc messages from piling up
+    private static final int MAX_ENCODED_MESSAGES = 256;
+
+    private static final SerializedString SUCCESS = new SerializedString("success");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString DATA = new SerializedString("data");
+    private static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter dataWriter;
+    private final Map<String, SerializableString> encodedMessages = new ConcurrentHashMap<>();
+    private volatile FormattedTimestamp lastTimestamp = new FormattedTimestamp(null, null);
+
+    public ApiResponseJsonConverter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        // Flushing after the data would push a partial envelope to the client and force chunked encoding
+        this.dataWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        if (!ApiResponse.class.isAssignableFrom(clazz)) {
+            return false;
+        }
+        if (mediaType == null || MediaType.ALL.equalsTypeAndSubtype(mediaType)) {
+            return true;
+        }
+        return SUPPORTED_MEDIA_TYPES.stream().anyMatch(supported -> supported.isCompatibleWith(mediaType));
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes() {
+        return SUPPORTED_MEDIA_TYPES;
+    }
+
+    @Override
+    public ApiResponse<?> read(Class<? extends ApiResponse<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Response envelopes are write-only", inputMessage);
+    }
+
+    @Override
+    public void write(ApiResponse<?> response, MediaType contentType, HttpOutputMessage outputMessage)
+            throws IOException {
+        HttpHeaders headers = outputMessage.getHeaders();
+        if (headers.getContentType() == null) {
+            boolean concrete = contentType != null && contentType.isConcrete();
+            headers.setContentType(concrete ? contentType : MediaType.APPLICATION_JSON);
+        }
+        // Formatted before the generator takes this thread's recycled buffers, so formatting can reuse them
+        PreSerializedJson timestamp = formatTimestamp(response.getTimestamp());
+        BodyOutputStream body = new BodyOutputStream(outputMessage);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(body, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeFieldName(SUCCESS);
+            generator.writeBoolean(response.isSuccess());
+            generator.writeFieldName(MESSAGE);
+            writeMessage(generator, response);
+            generator.writeFieldName(DATA);
+            dataWriter.writeValue(generator, response.getData());
+            generator.writeFieldName(TIMESTAMP);
+            generator.writeRawValue(timestamp);
+            generator.writeEndObject();
+            // Whatever the generator writes from here on is the rest of the envelope, in one piece
+            body.complete = true;
+        }
+    }
+
+    private void writeMessage(JsonGenerator generator, ApiResponse<?> response) throws IOException {
+        String message = response.getMessage();
+        if (message == null) {
+            generator.writeNull();
+            return;
+        }
+        SerializableString encoded = encodedMessages.get(message);
+        if (encoded == null && response.isSuccess() && encodedMessages.size() < MAX_ENCODED_MESSAGES) {
+            encoded = encodedMessages.computeIfAbsent(message, SerializedString::new);
+        }
+        if (encoded != null) {
+            generator.writeString(encoded);
+        } else {
+            generator.writeString(message);
+        }
+    }
+
+    private PreSerializedJson formatTimestamp(LocalDateTime timestamp) throws IOException {
+        FormattedTimestamp last = lastTimestamp;
+        if (timestamp == null || !timestamp.equals(last.time())) {
+            // Formatted by the ObjectMapper so the configured date format still applies
+            last = new FormattedTimestamp(timestamp, new PreSerializedJson(objectMapper.writeValueAsBytes(timestamp)));
+            lastTimestamp = last;
+        }
+        return last.json();
+    }
+
+    private record FormattedTimestamp(LocalDateTime time, PreSerializedJson json) {
+    }
+
+    /**
+     * Opens the response body on the generator's first write. If that write
+     * is the complete envelope, its length becomes the Content-Length.
+     * Flushing and closing are left to the container.
+     */
+    private static final class BodyOutputStream extends OutputStream {
+
+        private final HttpOutputMessage message;
+        private OutputStream body;
+        private boolean complete;
+
+        BodyOutputStream(HttpOutputMessage message) {
+            this.message = message;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (body == null) {
+                if (complete) {
+                    message.getHeaders().setContentLength(length);
+                }
+                body = message.getBody();
+            }
+            body.write(bytes, offset, length);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.greenloop.user_service.web;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Timestamps for response envelopes, shared by all responses created within
+ * the same millisecond.
+ * <p>
+ * {@link LocalDateTime#now()} allocates a new date-time on every call, and
+ * every instance has to be formatted separately. Envelopes created within
+ * the same tick share one instance here, which lets
+ * {@link ApiResponseJsonConverter} format it once per tick.
+ * </p>
+ */
+public final class ResponseTimestamps {
+
+    private static volatile Tick tick = new Tick(Long.MIN_VALUE, LocalDateTime.MIN);
+
+    private ResponseTimestamps() {
+    }
+
+    /**
+     * @return the current date-time in the system time zone, truncated to milliseconds
+     */
+    public static LocalDateTime now() {
+        long millis = System.currentTimeMillis();
+        Tick current = tick;
+        if (current.millis() == millis) {
+            return current.time();
+        }
+        LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+        tick = new Tick(millis, time);
+        return time;
+    }
+
+    private record Tick(long millis, LocalDateTime time) {
+    }
+}
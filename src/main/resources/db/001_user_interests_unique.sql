@@ -0,0 +1,13 @@
+-- Enforces one row per (user_id, interest) in user_interests.
+-- Run once against existing databases before deploying the set-based addInterests;
+-- Hibernate ddl-auto cannot add the constraint while duplicates exist.
+
+-- Remove duplicates left by the old check-then-insert race, keeping one arbitrary row per pair
+DELETE FROM user_service.user_interests a
+USING user_service.user_interests b
+WHERE a.user_id = b.user_id
+  AND a.interest = b.interest
+  AND a.id > b.id;
+
+ALTER TABLE user_service.user_interests
+    ADD CONSTRAINT uk_user_interests_user_interest UNIQUE (user_id, interest);
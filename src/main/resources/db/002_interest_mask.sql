@@ -0,0 +1,34 @@
+-- Backfills users.interest_mask from user_interests for user-service.interests.storage=bitmask.
+-- Bit n of the mask is the Interest constant with ordinal n (see Interest.java).
+--
+-- Migration path for an existing database:
+--   1. Deploy this version with storage=table; ddl-auto adds interest_mask (default 0).
+--      Alternatively run the ALTER below by hand.
+--   2. Run this script once to copy existing interests into the mask.
+--   3. Switch to storage=bitmask and roll the pods.
+--   4. Run this script again to pick up rows written between steps 2 and 3.
+-- The update only ever ORs bits in, so re-running it is safe.
+-- Once satisfied, user_interests can be archived.
+
+ALTER TABLE user_service.users
+    ADD COLUMN IF NOT EXISTS interest_mask smallint NOT NULL DEFAULT 0;
+
+UPDATE user_service.users u
+SET interest_mask = u.interest_mask | m.mask
+FROM (
+    SELECT user_id,
+           bit_or(1 << CASE interest
+                           WHEN 'RECYCLING' THEN 0
+                           WHEN 'TREE_PLANTING' THEN 1
+                           WHEN 'WORKSHOP' THEN 2
+                           WHEN 'CLEANUPS' THEN 3
+                           WHEN 'UPCYCLING' THEN 4
+                           WHEN 'VOLUNTEERING' THEN 5
+                           WHEN 'ECO_BAZAARS' THEN 6
+                           WHEN 'ONLINE_CHALLENGES' THEN 7
+                       END)::smallint AS mask
+    FROM user_service.user_interests
+    GROUP BY user_id
+) m
+WHERE u.id = m.user_id
+  AND (u.interest_mask | m.mask) <> u.interest_mask;
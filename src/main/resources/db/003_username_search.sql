@@ -0,0 +1,15 @@
+-- Indexes behind GET /api/users/search with user-service.search.engine=postgres.
+-- Run once before deploying; CONCURRENTLY avoids blocking writes to users while
+-- the indexes build, so run the statements outside a transaction block.
+-- pg_trgm ships with PostgreSQL but creating it may need a superuser or a
+-- user with CREATE on the database.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Prefix matches: lower(username) LIKE 'abc%'
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_username_prefix
+    ON user_service.users (lower(username) text_pattern_ops);
+
+-- Fuzzy matches: username % 'abc' ORDER BY username <-> 'abc'
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_username_trgm
+    ON user_service.users USING gist (username gist_trgm_ops);
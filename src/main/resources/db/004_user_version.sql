@@ -0,0 +1,6 @@
+-- Version column behind the ETags on GET /api/users/profile and /api/users/interests
+-- and optimistic locking of users. Run once before deploying.
+-- On PostgreSQL 11+ adding a column with a constant default does not rewrite the table.
+
+ALTER TABLE user_service.users
+    ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,10 @@
+-- Replaces the prefix index from 003_username_search.sql. text_pattern_ops only
+-- serves the LIKE range, not ORDER BY lower(username), so every prefix match was
+-- sorted before the LIMIT. A "C" collation index serves both: the search orders by
+-- lower(username) COLLATE "C" and reads the first matches straight from the index.
+-- Run once before deploying, outside a transaction block.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_username_prefix_c
+    ON user_service.users ((lower(username) COLLATE "C"));
+
+DROP INDEX CONCURRENTLY IF EXISTS user_service.idx_users_username_prefix;
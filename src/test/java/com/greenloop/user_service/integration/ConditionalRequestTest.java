@@ -0,0 +1,195 @@
+package com.greenloop.user_service.integration;
+
+import com.greenloop.user_service.configs.CacheConfig;
+import com.greenloop.user_service.dtos.CreateUserRequest;
+import com.greenloop.user_service.dtos.EventCounterUpdate;
+import com.greenloop.user_service.dtos.UpdateUserRequest;
+import com.greenloop.user_service.dtos.UserResponse;
+import com.greenloop.user_service.models.User;
+import com.greenloop.user_service.repos.UserRepository;
+import com.greenloop.user_service.services.UserService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ConditionalRequestTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        userService.createUser(CreateUserRequest.builder().username("etag_" + userId.toString().substring(0, 8)).build(), userId,
+                userId + "@example.com");
+    }
+
+    @Test
+    void profile_ShouldBeNotModified_UntilProfileChanges() throws Exception {
+        // Given
+        String eTag = eTag("/api/users/profile");
+
+        // When & Then
+        mockMvc.perform(get("/api/users/profile").header("X-User-ID", userId.toString())
+                .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(put("/api/users/profile").header("X-User-ID", userId.toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"bio\":\"changed\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/users/profile").header("X-User-ID", userId.toString())
+                .header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.bio").value("changed"));
+        assertThat(eTag("/api/users/profile")).isNotEqualTo(eTag);
+    }
+
+    @Test
+    void profile_ShouldChangeETag_WhenCountersAreUpdatedInBulk() throws Exception {
+        // Given
+        String eTag = eTag("/api/users/profile");
+
+        // When
+        userService.adjustEventCounters(List.of(EventCounterUpdate.builder()
+                .userId(userId).attendedDelta(1).registeredDelta(0).build()));
+
+        // Then
+        mockMvc.perform(get("/api/users/profile").header("X-User-ID", userId.toString())
+                .header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.eventsAttended").value(1));
+    }
+
+    @Test
+    void profile_ShouldServeCurrentVersion_WhenReadThroughPutRacesAddInterests() throws Exception {
+        // Given: a read-through put that read the profile before addInterests lands after it
+        UserResponse stale = userService.getUserById(userId);
+        userService.addInterests(userId, List.of("RECYCLING"));
+        long current = userService.getUserVersion(userId);
+        assertThat(current).isGreaterThan(stale.getVersion());
+
+        // When
+        cacheManager.getCache(CacheConfig.USER_PROFILES).put(userId, stale);
+
+        // Then
+        mockMvc.perform(get("/api/users/profile").header("X-User-ID", userId.toString())
+                .header("If-None-Match", "\"v" + stale.getVersion() + "\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v" + current + "\""))
+                .andExpect(jsonPath("$.data.version").value(current));
+    }
+
+    @Test
+    void interests_ShouldBeNotModified_UntilInterestsChange() throws Exception {
+        // Given
+        String eTag = eTag("/api/users/interests");
+
+        // When & Then
+        mockMvc.perform(get("/api/users/interests").header("X-User-ID", userId.toString())
+                .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        userService.addInterests(userId, List.of("RECYCLING"));
+
+        mockMvc.perform(get("/api/users/interests").header("X-User-ID", userId.toString())
+                .header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.interests[0]").value("RECYCLING"));
+        // The profile is tagged with the same version, so it is not served from a stale cache entry
+        assertThat(eTag("/api/users/profile")).isEqualTo(eTag("/api/users/interests"));
+    }
+
+    @Test
+    void interests_ShouldStayNotModified_WhenResentInterestsAlreadyExist() throws Exception {
+        // Given
+        userService.addInterests(userId, List.of("RECYCLING"));
+        String eTag = eTag("/api/users/interests");
+
+        // When: a client re-sends interests the user already follows
+        userService.addInterests(userId, List.of("recycling"));
+
+        // Then
+        mockMvc.perform(get("/api/users/interests").header("X-User-ID", userId.toString())
+                .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+        assertThat(eTag("/api/users/profile")).isEqualTo(eTag);
+    }
+
+    @Test
+    void profileUpdate_ShouldApplyIfMatchIsCurrent_AndConflictOtherwise() throws Exception {
+        // Given
+        String eTag = eTag("/api/users/profile");
+
+        // When & Then
+        String newTag = mockMvc.perform(put("/api/users/profile").header("X-User-ID", userId.toString())
+                .header("If-Match", eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"bio\":\"first\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(newTag).isNotEqualTo(eTag).isEqualTo(eTag("/api/users/profile"));
+
+        mockMvc.perform(patch("/api/users/avatar").header("X-User-ID", userId.toString())
+                .header("If-Match", eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"avatarUrl\":\"https://example.com/stale.png\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.data.bio").value("first"))
+                .andExpect(jsonPath("$.data.avatarUrl").doesNotExist());
+    }
+
+    @Test
+    void save_ShouldFail_WhenEntityIsStale() {
+        // Given
+        User stale = userRepository.findById(userId).orElseThrow();
+        userService.updateUser(userId, UpdateUserRequest.builder().bio("concurrent").build(), null);
+
+        // When & Then
+        stale.setUsername("lost_update");
+        assertThatThrownBy(() -> userRepository.saveAndFlush(stale))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(userService.getUserById(userId).getBio()).isEqualTo("concurrent");
+    }
+
+    @Test
+    void interests_ShouldReturnNotFound_WhenUserUnknown() throws Exception {
+        mockMvc.perform(get("/api/users/interests").header("X-User-ID", UUID.randomUUID().toString()))
+                .andExpect(status().isNotFound());
+    }
+
+    private String eTag(String path) throws Exception {
+        return mockMvc.perform(get(path).header("X-User-ID", userId.toString()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+    }
+}
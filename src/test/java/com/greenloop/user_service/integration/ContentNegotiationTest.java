@@ -0,0 +1,140 @@
+package com.greenloop.user_service.integration;
+
+import com.greenloop.user_service.configs.CacheConfig;
+import com.greenloop.user_service.dtos.CreateUserRequest;
+import com.greenloop.user_service.dtos.UserResponse;
+import com.greenloop.user_service.services.UserService;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ContentNegotiationTest {
+
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final ObjectMapper cborMapper = CBORMapper.builder().findAndAddModules().build();
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        userService.createUser(CreateUserRequest.builder()
+                .username("cbor_" + userId.toString().substring(0, 8))
+                .bio("Composting since 2019")
+                .build(), userId, userId + "@example.com");
+    }
+
+    @Test
+    void profile_ShouldBeJson_ByDefault() throws Exception {
+        mockMvc.perform(get("/api/users/profile").header("X-User-ID", userId.toString())
+                .accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data.id").value(userId.toString()));
+    }
+
+    @Test
+    void profile_ShouldMatchJson_WhenCborAccepted() throws Exception {
+        // When
+        byte[] cbor = mockMvc.perform(get("/api/users/profile").header("X-User-ID", userId.toString())
+                .accept(CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] json = mockMvc.perform(get("/api/users/profile").header("X-User-ID", userId.toString()))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then: same profile, with the UUID as 16 raw bytes instead of a 36 character string
+        JsonNode data = cborMapper.readTree(cbor).get("data");
+        assertThat(data.get("id").isBinary()).isTrue();
+        assertThat(cborMapper.treeToValue(data, UserResponse.class))
+                .isEqualTo(objectMapper.treeToValue(objectMapper.readTree(json).get("data"), UserResponse.class));
+        assertThat(cbor.length).isLessThan(json.length);
+    }
+
+    @Test
+    void profile_ShouldBypassJsonCache_WhenCborPreferred() throws Exception {
+        // When
+        mockMvc.perform(get("/api/users/profile").header("X-User-ID", userId.toString())
+                .header("Accept", "application/json;q=0.5, application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(CBOR));
+
+        // Then: CBOR is encoded from the profile object, not transcoded from cached JSON
+        assertThat(cacheManager.getCache(CacheConfig.USER_PROFILE_JSON).get(userId)).isNull();
+
+        mockMvc.perform(get("/api/users/profile").header("X-User-ID", userId.toString())
+                .header("Accept", "application/cbor;q=0.5, application/json"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+        assertThat(cacheManager.getCache(CacheConfig.USER_PROFILE_JSON).get(userId)).isNotNull();
+    }
+
+    @Test
+    void batch_ShouldAcceptAndReturnCbor() throws Exception {
+        // Given
+        byte[] request = cborMapper.writeValueAsBytes(List.of(userId, UUID.randomUUID()));
+
+        // When
+        byte[] response = mockMvc.perform(post("/api/users/batch")
+                .contentType(CBOR)
+                .accept(CBOR)
+                .content(request))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        JsonNode data = cborMapper.readTree(response).get("data");
+        assertThat(data).hasSize(2);
+        assertThat(data.get(0).get("found").asBoolean()).isTrue();
+        assertThat(data.get(0).get("user").get("bio").asText()).isEqualTo("Composting since 2019");
+        assertThat(data.get(1).get("found").asBoolean()).isFalse();
+    }
+
+    @Test
+    void errors_ShouldFollowNegotiatedFormat() throws Exception {
+        // When
+        byte[] response = mockMvc.perform(get("/api/users/profile").header("X-User-ID", UUID.randomUUID().toString())
+                .accept(CBOR))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentTypeCompatibleWith(CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        assertThat(cborMapper.readTree(response).get("success").asBoolean()).isFalse();
+    }
+}
@@ -0,0 +1,149 @@
+package com.greenloop.user_service.integration;
+
+import com.greenloop.user_service.dtos.*;
+import com.greenloop.user_service.exceptions.UserNotFoundException;
+import com.greenloop.user_service.models.User;
+import com.greenloop.user_service.repos.UserRepository;
+import com.greenloop.user_service.services.EventCounterBuffer;
+import com.greenloop.user_service.services.UserService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class EventCountersTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventCounterBuffer eventCounterBuffer;
+
+    private UUID testUserId;
+
+    @BeforeEach
+    void setUp() {
+        testUserId = createUser();
+    }
+
+    @Test
+    void adjustEventCounters_ShouldNotLoseUpdates_WhenCalledConcurrently() throws Exception {
+        // Given
+        int threads = 8;
+        int incrementsPerThread = 25;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        EventCounterRequest checkIn = EventCounterRequest.builder().attendedDelta(1).build();
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < incrementsPerThread; i++) {
+                    userService.adjustEventCounters(testUserId, checkIn);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(userService.getUserById(testUserId).getEventsAttended()).isEqualTo(threads * incrementsPerThread);
+    }
+
+    @Test
+    void adjustEventCounters_ShouldClampAtZero() {
+        // Given
+        userService.adjustEventCounters(testUserId, EventCounterRequest.builder().registeredDelta(2).build());
+
+        // When
+        UserResponse result = userService.adjustEventCounters(testUserId,
+                EventCounterRequest.builder().attendedDelta(-1).registeredDelta(-5).build());
+
+        // Then
+        assertThat(result.getEventsAttended()).isZero();
+        assertThat(result.getEventsRegistered()).isZero();
+    }
+
+    @Test
+    void adjustEventCounters_ShouldThrowException_WhenUserNotFound() {
+        // When & Then
+        assertThatThrownBy(() -> userService.adjustEventCounters(UUID.randomUUID(),
+                EventCounterRequest.builder().attendedDelta(1).build()))
+                .isInstanceOf(UserNotFoundException.class);
+    }
+
+    @Test
+    void adjustEventCountersBulk_ShouldMergeDeltasAndEvictCachedProfiles() {
+        // Given
+        UUID otherUserId = createUser();
+        userService.getUserById(testUserId);
+        List<EventCounterUpdate> updates = List.of(
+                EventCounterUpdate.builder().userId(testUserId).attendedDelta(1).registeredDelta(1).build(),
+                EventCounterUpdate.builder().userId(otherUserId).registeredDelta(3).build(),
+                EventCounterUpdate.builder().userId(testUserId).attendedDelta(2).build(),
+                EventCounterUpdate.builder().userId(UUID.randomUUID()).attendedDelta(1).build());
+
+        // When
+        EventCounterBulkResponse result = userService.adjustEventCounters(updates);
+
+        // Then
+        assertThat(result.getRequested()).isEqualTo(3);
+        assertThat(result.getUpdated()).isEqualTo(2);
+        UserResponse user = userService.getUserById(testUserId);
+        assertThat(user.getEventsAttended()).isEqualTo(3);
+        assertThat(user.getEventsRegistered()).isEqualTo(1);
+        assertThat(userService.getUserById(otherUserId).getEventsRegistered()).isEqualTo(3);
+    }
+
+    @Test
+    void adjustEventCountersBulk_ShouldRejectMergedDeltaThatOverflows() {
+        // Given
+        List<EventCounterUpdate> updates = List.of(
+                EventCounterUpdate.builder().userId(testUserId).attendedDelta(Integer.MAX_VALUE).build(),
+                EventCounterUpdate.builder().userId(testUserId).attendedDelta(1).build());
+
+        // When & Then
+        assertThatThrownBy(() -> userService.adjustEventCounters(updates))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(userService.getUserById(testUserId).getEventsAttended()).isZero();
+    }
+
+    @Test
+    void eventCounterBuffer_ShouldApplyCoalescedDeltasOnFlush() {
+        // Given
+        userService.getUserById(testUserId);
+        for (int i = 0; i < 50; i++) {
+            eventCounterBuffer.record(List.of(EventCounterUpdate.builder().userId(testUserId).attendedDelta(1).build()));
+        }
+
+        // When
+        eventCounterBuffer.flush();
+
+        // Then - cached profile was evicted by the bulk write
+        assertThat(userService.getUserById(testUserId).getEventsAttended()).isEqualTo(50);
+    }
+
+    private UUID createUser() {
+        UUID id = UUID.randomUUID();
+        userRepository.save(User.builder()
+                .id(id)
+                .email(id + "@example.com")
+                .username("counter-" + id)
+                .build());
+        return id;
+    }
+}
@@ -0,0 +1,90 @@
+package com.greenloop.user_service.integration;
+
+import com.greenloop.user_service.dtos.CreateUserRequest;
+import com.greenloop.user_service.grpc.GrpcServer;
+import com.greenloop.user_service.grpc.proto.AddInterestsRequest;
+import com.greenloop.user_service.grpc.proto.GetInterestsRequest;
+import com.greenloop.user_service.grpc.proto.GetUserRequest;
+import com.greenloop.user_service.grpc.proto.ListUsersRequest;
+import com.greenloop.user_service.grpc.proto.User;
+import com.greenloop.user_service.grpc.proto.UserServiceGrpc;
+import com.greenloop.user_service.services.UserService;
+
+import io.grpc.ManagedChannel;
+import io.grpc.health.v1.HealthCheckRequest;
+import io.grpc.health.v1.HealthCheckResponse;
+import io.grpc.health.v1.HealthGrpc;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class GrpcServerTest {
+
+    @Autowired
+    private GrpcServer grpcServer;
+
+    @Autowired
+    private UserService userService;
+
+    private ManagedChannel channel;
+    private UserServiceGrpc.UserServiceBlockingStub stub;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        channel = NettyChannelBuilder.forAddress("localhost", grpcServer.getPort()).usePlaintext().build();
+        stub = UserServiceGrpc.newBlockingStub(channel);
+        userId = UUID.randomUUID();
+        userService.createUser(CreateUserRequest.builder().username("grpc_" + userId.toString().substring(0, 8)).build(),
+                userId, userId + "@example.com");
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+    }
+
+    @Test
+    void server_ShouldServeProfilesAndInterests_OverHttp2() {
+        // When
+        User user = stub.getUser(GetUserRequest.newBuilder().setUserId(userId.toString()).build());
+        stub.addInterests(AddInterestsRequest.newBuilder()
+                .setUserId(userId.toString())
+                .addInterests("RECYCLING")
+                .build());
+
+        // Then
+        assertThat(user.getEmail()).isEqualTo(userId + "@example.com");
+        assertThat(stub.getInterests(GetInterestsRequest.newBuilder().setUserId(userId.toString()).build())
+                .getInterestsList()).containsExactly("RECYCLING");
+        assertThat(stub.getUser(GetUserRequest.newBuilder().setUserId(userId.toString()).build()).getVersion())
+                .isGreaterThan(user.getVersion());
+    }
+
+    @Test
+    void listUsers_ShouldStreamUsersFromDatabase() {
+        // When
+        List<String> ids = new ArrayList<>();
+        stub.listUsers(ListUsersRequest.getDefaultInstance()).forEachRemaining(user -> ids.add(user.getId()));
+
+        // Then
+        assertThat(ids).contains(userId.toString());
+    }
+
+    @Test
+    void health_ShouldReportServing() {
+        assertThat(HealthGrpc.newBlockingStub(channel).check(HealthCheckRequest.getDefaultInstance()).getStatus())
+                .isEqualTo(HealthCheckResponse.ServingStatus.SERVING);
+    }
+}
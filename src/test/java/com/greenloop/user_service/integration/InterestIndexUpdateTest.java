@@ -0,0 +1,67 @@
+package com.greenloop.user_service.integration;
+
+import com.greenloop.user_service.dtos.CreateUserRequest;
+import com.greenloop.user_service.enums.Interest;
+import com.greenloop.user_service.enums.InterestMatch;
+import com.greenloop.user_service.services.InterestIndex;
+import com.greenloop.user_service.services.UserService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class InterestIndexUpdateTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private InterestIndex interestIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        userService.createUser(CreateUserRequest.builder().username("index_" + userId.toString().substring(0, 8)).build(),
+                userId, userId + "@example.com");
+    }
+
+    @Test
+    void addInterests_ShouldReachIndex_OnceCommitted() {
+        // When
+        userService.addInterests(userId, List.of("WORKSHOP"));
+
+        // Then
+        assertThat(followers(Interest.WORKSHOP)).contains(userId);
+    }
+
+    @Test
+    void addInterests_ShouldNotReachIndex_WhenTransactionRollsBack() {
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.addInterests(userId, List.of("CLEANUPS"));
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(userService.getInterests(userId).getInterests()).isEmpty();
+        assertThat(followers(Interest.CLEANUPS)).doesNotContain(userId);
+    }
+
+    private List<UUID> followers(Interest interest) {
+        return interestIndex.find(EnumSet.of(interest), InterestMatch.ANY, null, 10_000).getUserIds();
+    }
+}
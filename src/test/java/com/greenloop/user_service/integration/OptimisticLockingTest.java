@@ -0,0 +1,94 @@
+package com.greenloop.user_service.integration;
+
+import com.greenloop.user_service.dtos.*;
+import com.greenloop.user_service.exceptions.UserConflictException;
+import com.greenloop.user_service.models.User;
+import com.greenloop.user_service.repos.UserRepository;
+import com.greenloop.user_service.services.UserService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class OptimisticLockingTest {
+
+    @Autowired
+    private UserService userService;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    private UUID testUserId;
+
+    @BeforeEach
+    void setUp() {
+        testUserId = UUID.randomUUID();
+        // Every attempt runs in a new transaction and loads a fresh entity
+        when(userRepository.findById(testUserId)).thenAnswer(i -> Optional.of(User.builder()
+                .id(testUserId)
+                .email("locked@example.com")
+                .username("locked")
+                .joinedDate(LocalDate.of(2024, 1, 1))
+                .version(7L)
+                .build()));
+    }
+
+    // ===== RETRY TESTS =====
+    @Test
+    void updateUser_ShouldReapplyPatch_WhenConcurrentWriteWins() {
+        // Given
+        when(userRepository.saveAndFlush(any(User.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(User.class, testUserId))
+                .thenAnswer(i -> i.getArguments()[0]);
+
+        // When
+        UserResponse result = userService.updateUser(testUserId,
+                UpdateUserRequest.builder().bio("retried").build(), null);
+
+        // Then
+        assertThat(result.getBio()).isEqualTo("retried");
+        verify(userRepository, times(2)).findById(testUserId);
+        verify(userRepository, times(2)).saveAndFlush(any(User.class));
+    }
+
+    @Test
+    void updateAvatar_ShouldReturnCurrentProfile_WhenRetriesAreExhausted() {
+        // Given
+        UserResponse current = UserResponse.builder().id(testUserId).username("locked").version(10L).build();
+        when(userRepository.saveAndFlush(any(User.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(User.class, testUserId));
+        when(userRepository.findResponseById(testUserId)).thenReturn(Optional.of(current));
+
+        // When & Then
+        assertThatThrownBy(() -> userService.updateAvatar(testUserId,
+                UpdateAvatarRequest.builder().avatarUrl("https://x/a.png").build(), null))
+                .isInstanceOfSatisfying(UserConflictException.class,
+                        e -> assertThat(e.getCurrent().getVersion()).isEqualTo(10L));
+        verify(userRepository, times(3)).saveAndFlush(any(User.class));
+    }
+
+    // ===== EXPECTED VERSION TESTS =====
+    @Test
+    void updateUser_ShouldNotRetryOrWrite_WhenExpectedVersionIsStale() {
+        // When & Then
+        assertThatThrownBy(() -> userService.updateUser(testUserId,
+                UpdateUserRequest.builder().bio("stale").build(), 6L))
+                .isInstanceOfSatisfying(UserConflictException.class,
+                        e -> assertThat(e.getCurrent().getVersion()).isEqualTo(7L));
+        verify(userRepository, times(1)).findById(testUserId);
+        verify(userRepository, never()).saveAndFlush(any(User.class));
+    }
+}
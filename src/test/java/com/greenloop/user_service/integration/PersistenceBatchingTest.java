@@ -0,0 +1,116 @@
+package com.greenloop.user_service.integration;
+
+import com.greenloop.user_service.enums.Interest;
+import com.greenloop.user_service.models.User;
+import com.greenloop.user_service.models.UserInterest;
+import com.greenloop.user_service.repos.UserInterestRepository;
+import com.greenloop.user_service.repos.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+// Batching applies to entity writes only; the native bulk paths are covered by SqlStatementBudgetTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles({ "production", "test" })
+public class PersistenceBatchingTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserInterestRepository interestRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private UUID testUserId;
+
+    @BeforeEach
+    void setUp() {
+        testUserId = UUID.randomUUID();
+        userRepository.save(User.builder()
+                .id(testUserId)
+                .email(testUserId + "@example.com")
+                .username("batch-" + testUserId)
+                .build());
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void saveAll_ShouldBatchInterestInserts() {
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.getReferenceById(testUserId);
+            interestRepository.saveAll(Arrays.stream(Interest.values())
+                    .map(interest -> UserInterest.builder().user(user).interest(interest).build())
+                    .toList());
+        });
+
+        // Then - all rows go through a single prepared, batched INSERT
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(Interest.values().length);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Nested
+    @SpringBootTest(properties = { "spring.jpa.properties.hibernate.generate_statistics=true",
+            "spring.jpa.properties.hibernate.jdbc.batch_size=1" })
+    class WithoutBatching {
+
+        // Own beans: the enclosing instance is wired from the batching context
+        @Autowired
+        private UserRepository unbatchedUserRepository;
+
+        @Autowired
+        private UserInterestRepository unbatchedInterestRepository;
+
+        @Autowired
+        private TransactionTemplate unbatchedTransactionTemplate;
+
+        @Autowired
+        private EntityManagerFactory unbatchedEntityManagerFactory;
+
+        @Test
+        void saveAll_ShouldPrepareOneInsertPerInterest() {
+            // Given
+            UUID userId = UUID.randomUUID();
+            unbatchedUserRepository.save(User.builder()
+                    .id(userId)
+                    .email(userId + "@example.com")
+                    .username("unbatched-" + userId)
+                    .build());
+            Statistics unbatched = unbatchedEntityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            unbatched.clear();
+
+            // When
+            unbatchedTransactionTemplate.executeWithoutResult(status -> {
+                User user = unbatchedUserRepository.getReferenceById(userId);
+                unbatchedInterestRepository.saveAll(Arrays.stream(Interest.values())
+                        .map(interest -> UserInterest.builder().user(user).interest(interest).build())
+                        .toList());
+            });
+
+            // Then - the baseline the production batch size improves on
+            assertThat(unbatched.getEntityInsertCount()).isEqualTo(Interest.values().length);
+            assertThat(unbatched.getPrepareStatementCount()).isEqualTo(Interest.values().length);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.greenloop.user_service.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.greenloop.user_service.configs.CacheConfig;
+import com.greenloop.user_service.dtos.CreateUserRequest;
+import com.greenloop.user_service.dtos.UserResponse;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+public class PrometheusMetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void cachesEndpoint_ShouldNotBeExposed() throws Exception {
+        // Given
+        Cache profiles = cacheManager.getCache(CacheConfig.USER_PROFILES);
+        UUID userId = UUID.randomUUID();
+        profiles.put(userId, UserResponse.builder().id(userId).username("cached").version(0L).build());
+
+        // When & Then: neither the listing nor eviction is reachable without authentication
+        mockMvc.perform(get("/actuator/caches"))
+                .andExpect(content().string(not(containsString(CacheConfig.USER_PROFILES))));
+        mockMvc.perform(delete("/actuator/caches"));
+        assertThat(profiles.get(userId)).isNotNull();
+    }
+
+    @Test
+    void prometheusEndpoint_ShouldPublishLatencyHistogramsAndPoolAndCacheMetrics() throws Exception {
+        // Given
+        UUID userId = UUID.randomUUID();
+        CreateUserRequest request = CreateUserRequest.builder()
+                .username("metricsuser")
+                .birthDate(LocalDate.of(1995, 5, 5))
+                .build();
+        mockMvc.perform(post("/api/users")
+                .header("X-User-ID", userId.toString())
+                .header("X-User-Email", "metrics@example.com")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/users/profile").header("X-User-ID", userId.toString()))
+                .andExpect(status().isOk());
+
+        // When
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        assertThat(series(scrape, "http_server_requests_seconds_bucket"))
+                .anyMatch(line -> line.contains("uri=\"/api/users/profile\"") && line.contains("method=\"GET\""))
+                .anyMatch(line -> line.contains("uri=\"/api/users\"") && line.contains("method=\"POST\""));
+        assertThat(series(scrape, "spring_data_repository_invocations_seconds_bucket"))
+                .anyMatch(line -> line.contains("repository=\"UserRepository\""));
+        assertThat(series(scrape, "hikaricp_connections_acquire_seconds_bucket")).isNotEmpty();
+        assertThat(series(scrape, "cache_gets_total"))
+                .anyMatch(line -> line.contains("cache=\"userProfiles\""));
+        assertThat(series(scrape, "http_server_requests_seconds_count"))
+                .allMatch(line -> line.contains("application=\"user-service\""));
+    }
+
+    private List<String> series(String scrape, String name) {
+        return scrape.lines()
+                .filter(line -> line.startsWith(name + "{"))
+                .toList();
+    }
+}
@@ -0,0 +1,102 @@
+package com.greenloop.user_service.integration;
+
+import com.greenloop.user_service.dtos.CreateUserRequest;
+import com.greenloop.user_service.services.UserService;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.*;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({ "production", "test" })
+public class ServerTuningTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient http2Client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build();
+    private final HttpClient http1Client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 20; i++) {
+            UUID id = UUID.randomUUID();
+            userService.createUser(CreateUserRequest.builder()
+                    .username("tuning_" + id.toString().substring(0, 8))
+                    .bio("Sorting recyclables at the weekend market, stall " + i)
+                    .build(), id, id + "@example.com");
+            userId = id;
+        }
+    }
+
+    @Test
+    void server_ShouldUpgradeCleartextConnections_ToHttp2() throws Exception {
+        // When: a cleartext HTTP/2 request starts as HTTP/1.1 with Upgrade: h2c
+        HttpResponse<String> response = http2Client.send(request("/api/users?size=5").build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.version()).isEqualTo(HttpClient.Version.HTTP_2);
+    }
+
+    @Test
+    void largeLists_ShouldBeGzipped_WhenClientAcceptsIt() throws Exception {
+        // When
+        HttpResponse<byte[]> response = http1Client.send(request("/api/users?size=20")
+                .header("Accept-Encoding", "gzip")
+                .build(), HttpResponse.BodyHandlers.ofByteArray());
+
+        // Then
+        assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            JsonNode json = objectMapper.readTree(body);
+            assertThat(json.at("/data/users")).hasSize(20);
+        }
+    }
+
+    @Test
+    void smallResponses_ShouldNotBeCompressed() throws Exception {
+        // When
+        HttpResponse<String> list = http1Client.send(request("/api/users?size=1")
+                .header("Accept-Encoding", "gzip")
+                .build(), HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> profile = http1Client.send(request("/api/users/profile")
+                .header("Accept-Encoding", "gzip")
+                .header("X-User-ID", userId.toString())
+                .build(), HttpResponse.BodyHandlers.ofString());
+
+        // Then: both go out with a Content-Length below the 2 KB threshold
+        assertThat(list.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(list.headers().firstValueAsLong("Content-Length").getAsLong()).isLessThan(2048);
+        assertThat(profile.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(profile.headers().firstValueAsLong("Content-Length").getAsLong()).isLessThan(2048);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET();
+    }
+}
@@ -0,0 +1,143 @@
+package com.greenloop.user_service.integration;
+
+import com.greenloop.user_service.enums.Interest;
+import com.greenloop.user_service.models.User;
+import com.greenloop.user_service.monitoring.SqlStatementStats;
+import com.greenloop.user_service.repos.UserRepository;
+import com.greenloop.user_service.services.UserService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "user-service.sql.budget.max-statements=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class SqlStatementBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // ===== STATEMENT BUDGETS =====
+    @Test
+    void addInterests_ShouldRunSameStatementCount_RegardlessOfInterestCount() {
+        // Given
+        UUID oneInterestUser = createUser();
+        UUID allInterestsUser = createUser();
+        List<String> allInterests = Arrays.stream(Interest.values()).map(Interest::name).toList();
+
+        // When
+        long single = statementsFor(() -> userService.addInterests(oneInterestUser, List.of("RECYCLING")));
+        long all = statementsFor(() -> userService.addInterests(allInterestsUser, allInterests));
+
+        // Then
+        assertThat(all).isEqualTo(single).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void getUsersPage_ShouldRunOneStatement_RegardlessOfPageSize() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            createUser();
+        }
+
+        // When & Then
+        assertThat(statementsFor(() -> userService.getUsersPage(null, 10))).isEqualTo(1);
+    }
+
+    @Test
+    void getUsersByIds_ShouldRunOneStatement_RegardlessOfIdCount() {
+        // Given
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ids.add(createUser());
+        }
+
+        // When & Then
+        assertThat(statementsFor(() -> userService.getUsersByIds(ids))).isEqualTo(1);
+    }
+
+    // ===== PER-REQUEST REPORTING =====
+    @Test
+    void request_ShouldBeCountedWithOrigin_WhenOverStatementBudget() throws Exception {
+        // Given
+        UUID userId = createUser();
+        double before = budgetExceeded("/api/users/interests", "UserService.addInterests");
+
+        // When
+        mockMvc.perform(post("/api/users/interests")
+                .header("X-User-ID", userId.toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[\"RECYCLING\", \"WORKSHOP\"]"))
+                .andExpect(status().isCreated());
+
+        // Then
+        assertThat(budgetExceeded("/api/users/interests", "UserService.addInterests")).isEqualTo(before + 1);
+        assertThat(meterRegistry.get("sql.request.statements").tag("uri", "/api/users/interests").summary().max())
+                .isGreaterThan(2);
+    }
+
+    @Test
+    void request_ShouldNotBeCounted_WhenWithinBudget() throws Exception {
+        // Given
+        UUID userId = createUser();
+
+        // When
+        mockMvc.perform(get("/api/users/profile").header("X-User-ID", userId.toString()))
+                .andExpect(status().isOk());
+
+        // Then
+        assertThat(meterRegistry.find("sql.request.budget.exceeded").tag("uri", "/api/users/profile").counter())
+                .isNull();
+        assertThat(meterRegistry.get("sql.request.statements").tag("uri", "/api/users/profile").summary().count())
+                .isPositive();
+    }
+
+    private long statementsFor(Runnable call) {
+        try (SqlStatementStats stats = SqlStatementStats.start()) {
+            call.run();
+            return stats.getStatements();
+        }
+    }
+
+    private double budgetExceeded(String uri, String origin) {
+        Counter counter = meterRegistry.find("sql.request.budget.exceeded")
+                .tag("uri", uri)
+                .tag("origin", origin)
+                .tag("reason", "statements")
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private UUID createUser() {
+        UUID id = UUID.randomUUID();
+        userRepository.save(User.builder()
+                .id(id)
+                .email(id + "@example.com")
+                .username("budget-" + id)
+                .build());
+        return id;
+    }
+}
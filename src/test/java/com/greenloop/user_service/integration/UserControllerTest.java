@@ -2,6 +2,9 @@ package com.greenloop.user_service.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.greenloop.user_service.dtos.*;
+import com.greenloop.user_service.enums.InterestMatch;
+import com.greenloop.user_service.exceptions.UserConflictException;
+import com.greenloop.user_service.services.EventCounterBuffer;
 import com.greenloop.user_service.services.UserService;
 
 import org.junit.jupiter.api.Test;
@@ -12,10 +15,12 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -38,6 +43,9 @@ public class UserControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private EventCounterBuffer eventCounterBuffer;
+
     private final UUID testUserId = UUID.randomUUID();
 
     // ===== ENDPOINT MAPPING TESTS =====
@@ -76,19 +84,72 @@ public class UserControllerTest {
     @Test
     void getAllUsers_ShouldReturnOk() throws Exception {
         // Given
-        List<UserResponse> users = Arrays.asList(
-                UserResponse.builder().id(UUID.randomUUID()).username("user1").build(),
-                UserResponse.builder().id(UUID.randomUUID()).username("user2").build());
+        UserPageResponse page = UserPageResponse.builder()
+                .users(Arrays.asList(
+                        UserResponse.builder().id(UUID.randomUUID()).username("user1").build(),
+                        UserResponse.builder().id(UUID.randomUUID()).username("user2").build()))
+                .nextCursor("next")
+                .hasMore(true)
+                .build();
 
-        when(userService.getAllUsers()).thenReturn(users);
+        when(userService.getUsersPage(null, 50)).thenReturn(page);
 
         // When & Then
         mockMvc.perform(get("/api/users"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data", hasSize(2)));
+                .andExpect(jsonPath("$.data.users", hasSize(2)))
+                .andExpect(jsonPath("$.data.nextCursor").value("next"))
+                .andExpect(jsonPath("$.data.hasMore").value(true));
+
+        verify(userService, times(1)).getUsersPage(null, 50);
+    }
+
+    @Test
+    void getAllUsers_ShouldCapPageSize() throws Exception {
+        // Given
+        when(userService.getUsersPage("abc", 200)).thenReturn(new UserPageResponse(List.of(), null, false));
+
+        // When & Then
+        mockMvc.perform(get("/api/users").param("cursor", "abc").param("size", "10000"))
+                .andExpect(status().isOk());
 
-        verify(userService, times(1)).getAllUsers();
+        verify(userService, times(1)).getUsersPage("abc", 200);
+    }
+
+    @Test
+    void getAllUsers_ShouldReturnBadRequest_WhenSizeNotPositive() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/users").param("size", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+
+        verify(userService, never()).getUsersPage(any(), anyInt());
+    }
+
+    @Test
+    void streamAllUsers_ShouldWriteNdjson() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            Consumer<UserResponse> consumer = invocation.getArgument(0);
+            consumer.accept(UserResponse.builder().username("user1").build());
+            consumer.accept(UserResponse.builder().username("user2").build());
+            return null;
+        }).when(userService).streamAllUsers(any());
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/users/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(allOf(
+                        containsString("\"username\":\"user1\""),
+                        containsString("}\n{"),
+                        containsString("\"username\":\"user2\""))));
     }
 
     @Test
@@ -97,6 +158,7 @@ public class UserControllerTest {
         UserResponse response = UserResponse.builder()
                 .id(testUserId)
                 .username("testuser")
+                .version(3L)
                 .build();
 
         when(userService.getUserById(testUserId)).thenReturn(response);
@@ -105,12 +167,76 @@ public class UserControllerTest {
         mockMvc.perform(get("/api/users/profile")
                 .header("X-User-ID", testUserId.toString()))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v3\""))
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.username").value("testuser"));
 
         verify(userService, times(1)).getUserById(testUserId);
     }
 
+    @Test
+    void getUserProfile_ShouldReturnNotModified_WithoutReadingVersion_WhenETagMatchesCachedProfile() throws Exception {
+        // Given
+        when(userService.getUserById(testUserId)).thenReturn(UserResponse.builder()
+                .id(testUserId)
+                .username("testuser")
+                .version(3L)
+                .build());
+
+        // When & Then
+        mockMvc.perform(get("/api/users/profile")
+                .header("X-User-ID", testUserId.toString())
+                .header("If-None-Match", "\"v2\", \"v3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"v3\""))
+                .andExpect(content().string(""));
+
+        verify(userService, never()).getUserVersion(any());
+    }
+
+    @Test
+    void getUsersBatch_ShouldReturnResultsInRequestOrder() throws Exception {
+        // Given
+        UUID missingId = UUID.randomUUID();
+        List<UUID> ids = List.of(testUserId, missingId);
+        List<BatchUserResult> results = List.of(
+                BatchUserResult.builder().id(testUserId).found(true)
+                        .user(UserResponse.builder().id(testUserId).username("testuser").build()).build(),
+                BatchUserResult.builder().id(missingId).found(false).build());
+
+        when(userService.getUsersByIds(ids)).thenReturn(results);
+
+        // When & Then
+        mockMvc.perform(post("/api/users/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(ids)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(2)))
+                .andExpect(jsonPath("$.data[0].found").value(true))
+                .andExpect(jsonPath("$.data[0].user.username").value("testuser"))
+                .andExpect(jsonPath("$.data[1].id").value(missingId.toString()))
+                .andExpect(jsonPath("$.data[1].found").value(false));
+
+        verify(userService, times(1)).getUsersByIds(ids);
+    }
+
+    @Test
+    void getUsersBatch_ShouldReturnBadRequest_WhenTooManyIds() throws Exception {
+        // Given
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 5001; i++) {
+            ids.add(UUID.randomUUID());
+        }
+
+        // When & Then
+        mockMvc.perform(post("/api/users/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(ids)))
+                .andExpect(status().isBadRequest());
+
+        verify(userService, never()).getUsersByIds(anyList());
+    }
+
     @Test
     void updateUserProfile_ShouldReturnOk() throws Exception {
         // Given
@@ -121,9 +247,10 @@ public class UserControllerTest {
         UserResponse response = UserResponse.builder()
                 .id(testUserId)
                 .username("updated")
+                .version(1L)
                 .build();
 
-        when(userService.updateUser(eq(testUserId), any())).thenReturn(response);
+        when(userService.updateUser(eq(testUserId), any(), isNull())).thenReturn(response);
 
         // When & Then
         mockMvc.perform(put("/api/users/profile")
@@ -133,7 +260,42 @@ public class UserControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data.username").value("updated"));
 
-        verify(userService, times(1)).updateUser(eq(testUserId), any());
+        verify(userService, times(1)).updateUser(eq(testUserId), any(), isNull());
+    }
+
+    @Test
+    void updateUserProfile_ShouldReturnConflictWithCurrentProfile_WhenIfMatchIsStale() throws Exception {
+        // Given
+        UserResponse current = UserResponse.builder()
+                .id(testUserId)
+                .username("someone_else_was_here")
+                .version(5L)
+                .build();
+        when(userService.updateUser(eq(testUserId), any(), eq(4L)))
+                .thenThrow(new UserConflictException("User has changed since version 4.", current));
+
+        // When & Then
+        mockMvc.perform(put("/api/users/profile")
+                .header("X-User-ID", testUserId.toString())
+                .header("If-Match", "\"v4\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"mine\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.data.username").value("someone_else_was_here"))
+                .andExpect(jsonPath("$.data.version").value(5));
+    }
+
+    @Test
+    void updateUserProfile_ShouldReturnBadRequest_WhenIfMatchIsNotOurs() throws Exception {
+        mockMvc.perform(put("/api/users/profile")
+                .header("X-User-ID", testUserId.toString())
+                .header("If-Match", "W/\"abc\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"mine\"}"))
+                .andExpect(status().isBadRequest());
+
+        verify(userService, never()).updateUser(any(), any(), any());
     }
 
     @Test
@@ -146,9 +308,10 @@ public class UserControllerTest {
         UserResponse response = UserResponse.builder()
                 .id(testUserId)
                 .avatarUrl("https://example.com/avatar.jpg")
+                .version(1L)
                 .build();
 
-        when(userService.updateAvatar(eq(testUserId), any())).thenReturn(response);
+        when(userService.updateAvatar(eq(testUserId), any(), isNull())).thenReturn(response);
 
         // When & Then
         mockMvc.perform(patch("/api/users/avatar")
@@ -158,7 +321,85 @@ public class UserControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("Avatar updated successfully"));
 
-        verify(userService, times(1)).updateAvatar(eq(testUserId), any());
+        verify(userService, times(1)).updateAvatar(eq(testUserId), any(), isNull());
+    }
+
+    @Test
+    void adjustEventCounters_ShouldReturnOk() throws Exception {
+        // Given
+        EventCounterRequest request = EventCounterRequest.builder().attendedDelta(1).build();
+        UserResponse response = UserResponse.builder()
+                .id(testUserId)
+                .eventsAttended(4)
+                .build();
+
+        when(userService.adjustEventCounters(eq(testUserId), any())).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(patch("/api/users/" + testUserId + "/counters")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Event counters updated successfully"))
+                .andExpect(jsonPath("$.data.eventsAttended").value(4));
+    }
+
+    @Test
+    void adjustEventCountersBulk_ShouldReturnCounts() throws Exception {
+        // Given
+        List<EventCounterUpdate> updates = List.of(
+                EventCounterUpdate.builder().userId(testUserId).attendedDelta(1).build());
+        when(userService.adjustEventCounters(anyList()))
+                .thenReturn(EventCounterBulkResponse.builder().requested(1).updated(1).build());
+
+        // When & Then
+        mockMvc.perform(patch("/api/users/counters")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updates)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.requested").value(1))
+                .andExpect(jsonPath("$.data.updated").value(1));
+    }
+
+    @Test
+    void adjustEventCountersBulk_ShouldReturnBadRequest_WhenUserIdMissing() throws Exception {
+        // When & Then
+        mockMvc.perform(patch("/api/users/counters")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"attendedDelta\": 1}]"))
+                .andExpect(status().isBadRequest());
+
+        verify(userService, never()).adjustEventCounters(anyList());
+    }
+
+    @Test
+    void adjustEventCountersBulk_ShouldReturnBadRequest_WhenDeltaOutOfRange() throws Exception {
+        // When & Then
+        mockMvc.perform(patch("/api/users/counters")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"userId\": \"" + testUserId + "\", \"attendedDelta\": 2147483647},"
+                        + " {\"userId\": \"" + testUserId + "\", \"attendedDelta\": 1}]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Counter deltas must be between -10000 and 10000"));
+
+        verify(userService, never()).adjustEventCounters(anyList());
+    }
+
+    @Test
+    void queueEventCounters_ShouldReturnAccepted() throws Exception {
+        // Given
+        List<EventCounterUpdate> updates = List.of(
+                EventCounterUpdate.builder().userId(testUserId).attendedDelta(1).build());
+
+        // When & Then
+        mockMvc.perform(post("/api/users/counters/deferred")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updates)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.message").value("Event counter updates accepted"));
+
+        verify(eventCounterBuffer, times(1)).record(updates);
+        verify(userService, never()).adjustEventCounters(anyList());
     }
 
     @Test
@@ -181,17 +422,34 @@ public class UserControllerTest {
                 .interests(Arrays.asList("RECYCLING", "TREE_PLANTING"))
                 .build();
 
+        when(userService.getUserVersion(testUserId)).thenReturn(5L);
         when(userService.getInterests(testUserId)).thenReturn(response);
 
         // When & Then
         mockMvc.perform(get("/api/users/interests")
-                .header("X-User-ID", testUserId.toString()))
+                .header("X-User-ID", testUserId.toString())
+                .header("If-None-Match", "\"v4\""))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v5\""))
                 .andExpect(jsonPath("$.data.interests", hasSize(2)));
 
         verify(userService, times(1)).getInterests(testUserId);
     }
 
+    @Test
+    void getInterests_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+        // Given
+        when(userService.getUserVersion(testUserId)).thenReturn(5L);
+
+        // When & Then
+        mockMvc.perform(get("/api/users/interests")
+                .header("X-User-ID", testUserId.toString())
+                .header("If-None-Match", "W/\"v5\""))
+                .andExpect(status().isNotModified());
+
+        verify(userService, never()).getInterests(any());
+    }
+
     @Test
     void addInterests_ShouldReturnCreated() throws Exception {
         // Given
@@ -212,4 +470,67 @@ public class UserControllerTest {
 
         verify(userService, times(1)).addInterests(eq(testUserId), anyList());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findUsersByInterests_ShouldReturnMatchingUserIds() throws Exception {
+        // Given
+        InterestMatchResponse response = InterestMatchResponse.builder()
+                .userIds(List.of(testUserId))
+                .total(1)
+                .hasMore(false)
+                .build();
+
+        when(userService.findUsersByInterests(List.of("TREE_PLANTING", "CLEANUPS"), InterestMatch.ANY, null, 50))
+                .thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(get("/api/users/by-interest")
+                .param("interests", "TREE_PLANTING,CLEANUPS")
+                .param("match", "ANY"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.userIds[0]").value(testUserId.toString()))
+                .andExpect(jsonPath("$.data.total").value(1));
+
+        verify(userService, times(1))
+                .findUsersByInterests(List.of("TREE_PLANTING", "CLEANUPS"), InterestMatch.ANY, null, 50);
+    }
+
+    @Test
+    void searchUsers_ShouldReturnMatchingUsers() throws Exception {
+        // Given
+        UserSearchResponse response = UserSearchResponse.builder()
+                .users(List.of(UserSearchHit.builder().id(testUserId).username("testuser").build()))
+                .page(0)
+                .size(10)
+                .build();
+        when(userService.searchUsers("test", 0, 10)).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(get("/api/users/search").param("q", "test"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.users[0].username").value("testuser"))
+                .andExpect(jsonPath("$.data.hasMore").value(false));
+
+        verify(userService, times(1)).searchUsers("test", 0, 10);
+    }
+
+    @Test
+    void exportUsers_ShouldReturnNotImplemented_WhenDatabaseIsNotPostgres() throws Exception {
+        // When & Then: the test profile runs on H2, which has no COPY
+        mockMvc.perform(get("/api/users/export/users").param("format", "BINARY"))
+                .andExpect(status().isNotImplemented())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value("Bulk export requires a PostgreSQL database"));
+    }
+
+    @Test
+    void getAllUsers_ShouldReturnInternalServerError_WhenServiceFailsUnexpectedly() throws Exception {
+        // Given: a bug such as a write to an immutable list, not a missing feature
+        when(userService.getUsersPage(any(), anyInt())).thenThrow(new UnsupportedOperationException());
+
+        // When & Then
+        mockMvc.perform(get("/api/users"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+}
@@ -0,0 +1,206 @@
+package com.greenloop.user_service.integration;
+
+import com.greenloop.user_service.models.User;
+import com.greenloop.user_service.repos.UserRepository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doReturn;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class UserImportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoSpyBean
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void importUsers_ShouldCreateValidCsvRowsAndReportInvalidOnes() throws Exception {
+        // Given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        String csv = "id,email,username,bio,birthDate\n"
+                + first + "," + first + "@example.com,csv-" + first + ",Hello,1990-04-02\n"
+                + "not-a-uuid,bad@example.com,bad-row,,\n"
+                + second + "," + second + "@example.com,csv-" + second + ",,\n"
+                + UUID.randomUUID() + ",missing-at-sign,no-email,,\n";
+
+        // When & Then
+        mockMvc.perform(post("/api/users/import")
+                .contentType("text/csv")
+                .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.total").value(4))
+                .andExpect(jsonPath("$.data.created").value(2))
+                .andExpect(jsonPath("$.data.failed").value(2))
+                .andExpect(jsonPath("$.data.completed").value(true))
+                .andExpect(jsonPath("$.data.errors[*].row", containsInAnyOrder(2, 4)));
+
+        User imported = userRepository.findById(first).orElseThrow();
+        assertThat(imported.getBio()).isEqualTo("Hello");
+        assertThat(imported.getBirthDate()).isEqualTo(LocalDate.of(1990, 4, 2));
+        assertThat(imported.getJoinedDate()).isEqualTo(LocalDate.now());
+        assertThat(userRepository.existsById(second)).isTrue();
+    }
+
+    @Test
+    void importUsers_ShouldSkipConflictsAndDuplicatesInNdjson() throws Exception {
+        // Given
+        UUID existing = UUID.randomUUID();
+        userRepository.save(User.builder().id(existing).email(existing + "@example.com")
+                .username("existing-" + existing).build());
+        UUID fresh = UUID.randomUUID();
+        UUID duplicate = UUID.randomUUID();
+        String ndjson = row(fresh, fresh + "@example.com", "nd-" + fresh)
+                + row(UUID.randomUUID(), existing + "@example.com", "nd-other-" + fresh)
+                + row(duplicate, duplicate + "@example.com", "nd-" + duplicate)
+                + row(UUID.randomUUID(), "dup-" + duplicate + "@example.com", "nd-" + duplicate);
+
+        // When & Then
+        mockMvc.perform(post("/api/users/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.created").value(2))
+                .andExpect(jsonPath("$.data.failed").value(2))
+                .andExpect(jsonPath("$.data.errors[*].message",
+                        containsInAnyOrder("Email already in use", "Duplicate id, email or username within upload")));
+    }
+
+    @Test
+    void importUsers_ShouldAcceptRow_WhoseKeysOnlyMatchRejectedDuplicates() throws Exception {
+        // Given: B repeats A's username, C reuses B's id, which B never claimed
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        String ndjson = row(a, a + "@example.com", "nd-a-" + a)
+                + row(b, b + "@example.com", "nd-a-" + a)
+                + row(b, "c-" + b + "@example.com", "nd-c-" + b);
+
+        // When & Then
+        mockMvc.perform(post("/api/users/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.created").value(2))
+                .andExpect(jsonPath("$.data.failed").value(1))
+                .andExpect(jsonPath("$.data.errors[0].row").value(2));
+
+        assertThat(userRepository.findById(b).orElseThrow().getEmail()).isEqualTo("c-" + b + "@example.com");
+    }
+
+    @Test
+    void insertIgnoringConflicts_ShouldReturnOnlyInsertedIds() {
+        // Given
+        UUID existing = UUID.randomUUID();
+        userRepository.save(User.builder().id(existing).email(existing + "@example.com")
+                .username("taken-" + existing).build());
+        UUID fresh = UUID.randomUUID();
+        UUID clashing = UUID.randomUUID();
+
+        // When
+        List<UUID> inserted = transactionTemplate.execute(status -> userRepository.insertIgnoringConflicts(List.of(
+                User.builder().id(fresh).email(fresh + "@example.com").username("nd-" + fresh)
+                        .joinedDate(LocalDate.now()).build(),
+                User.builder().id(clashing).email(existing + "@example.com").username("nd-" + clashing)
+                        .joinedDate(LocalDate.now()).build())));
+
+        // Then
+        assertThat(inserted).containsExactly(fresh);
+    }
+
+    @Test
+    void importUsers_ShouldReportEachRowSkipped_WhenKeyIsWrittenConcurrently() throws Exception {
+        // Given: another request creates the user after this chunk's conflict check
+        UUID raced = UUID.randomUUID();
+        UUID fresh = UUID.randomUUID();
+        userRepository.save(User.builder().id(raced).email(raced + "@example.com")
+                .username("nd-" + raced).build());
+        doReturn(List.of()).when(userRepository).findIdentityConflicts(anyCollection(), anyCollection(),
+                anyCollection());
+        String ndjson = row(fresh, fresh + "@example.com", "nd-" + fresh)
+                + row(raced, raced + "@example.com", "nd-" + raced);
+
+        // When & Then
+        mockMvc.perform(post("/api/users/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.created").value(1))
+                .andExpect(jsonPath("$.data.failed").value(1))
+                .andExpect(jsonPath("$.data.errors", hasSize(1)))
+                .andExpect(jsonPath("$.data.errors[0].row").value(2))
+                .andExpect(jsonPath("$.data.errors[0].id").value(raced.toString()))
+                .andExpect(jsonPath("$.data.errors[0].message",
+                        startsWith("Skipped: conflicting key written concurrently")));
+
+        assertThat(userRepository.existsById(fresh)).isTrue();
+    }
+
+    @Test
+    void importUsers_ShouldInsertAcrossChunks() throws Exception {
+        // Given
+        StringBuilder ndjson = new StringBuilder();
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            ndjson.append(row(id, id + "@example.com", "bulk-" + id));
+        }
+
+        // When & Then
+        mockMvc.perform(post("/api/users/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(ndjson.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.created").value(2500))
+                .andExpect(jsonPath("$.data.failed").value(0));
+
+        assertThat(userRepository.findAllById(ids)).hasSize(2500);
+    }
+
+    @Test
+    void importUsers_ShouldKeepParsedRowsAndStop_WhenNdjsonIsMalformed() throws Exception {
+        // Given
+        UUID valid = UUID.randomUUID();
+        String ndjson = row(valid, valid + "@example.com", "nd-" + valid) + "{\"id\": \n" + row(UUID.randomUUID(),
+                "after@example.com", "after-malformed");
+
+        // When & Then
+        mockMvc.perform(post("/api/users/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.completed").value(false))
+                .andExpect(jsonPath("$.data.errors[0].row").value(2))
+                .andExpect(jsonPath("$.data.errors[0].message", startsWith("Malformed row")));
+
+        assertThat(userRepository.existsById(valid)).isTrue();
+    }
+
+    private String row(UUID id, String email, String username) {
+        return "{\"id\":\"" + id + "\",\"email\":\"" + email + "\",\"username\":\"" + username + "\"}\n";
+    }
+}
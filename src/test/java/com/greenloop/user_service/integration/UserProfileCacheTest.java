@@ -0,0 +1,154 @@
+package com.greenloop.user_service.integration;
+
+import com.greenloop.user_service.cache.CacheInvalidationChannel;
+import com.greenloop.user_service.cache.CacheInvalidationMessage;
+import com.greenloop.user_service.configs.CacheConfig;
+import com.greenloop.user_service.dtos.*;
+import com.greenloop.user_service.models.User;
+import com.greenloop.user_service.repos.UserRepository;
+import com.greenloop.user_service.services.UserService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class UserProfileCacheTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CacheInvalidationChannel invalidationChannel;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    private UUID testUserId;
+    private User testUser;
+    private UserResponse testResponse;
+
+    @BeforeEach
+    void setUp() {
+        testUserId = UUID.randomUUID();
+        testUser = User.builder()
+                .id(testUserId)
+                .email("cached@example.com")
+                .username("cacheduser")
+                .joinedDate(LocalDate.of(2024, 1, 1))
+                .build();
+        testResponse = UserResponse.builder()
+                .id(testUserId)
+                .email("cached@example.com")
+                .username("cacheduser")
+                .joinedDate(LocalDate.of(2024, 1, 1))
+                .build();
+    }
+
+    @Test
+    void getUserById_ShouldHitDatabaseOnce_WhenCalledRepeatedly() {
+        // Given
+        when(userRepository.findResponseById(testUserId)).thenReturn(Optional.of(testResponse));
+        double hitsBefore = cacheGets("hit");
+
+        // When
+        userService.getUserById(testUserId);
+        UserResponse second = userService.getUserById(testUserId);
+
+        // Then
+        assertThat(second.getUsername()).isEqualTo("cacheduser");
+        verify(userRepository, times(1)).findResponseById(testUserId);
+        assertThat(cacheGets("hit")).isEqualTo(hitsBefore + 1);
+    }
+
+    @Test
+    void updateUser_ShouldRefreshCachedProfile() {
+        // Given
+        when(userRepository.findResponseById(testUserId)).thenReturn(Optional.of(testResponse));
+        when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(i -> i.getArguments()[0]);
+        userService.getUserById(testUserId);
+
+        // When
+        userService.updateUser(testUserId, UpdateUserRequest.builder().username("renamed").build(), null);
+        UserResponse result = userService.getUserById(testUserId);
+
+        // Then
+        assertThat(result.getUsername()).isEqualTo("renamed");
+        // The update loads the entity once; the second read is served from cache
+        verify(userRepository, times(1)).findResponseById(testUserId);
+        verify(userRepository, times(1)).findById(testUserId);
+    }
+
+    @Test
+    void deleteUser_ShouldEvictCachedProfile() {
+        // Given
+        when(userRepository.findResponseById(testUserId)).thenReturn(Optional.of(testResponse));
+        when(userRepository.existsById(testUserId)).thenReturn(true);
+        userService.getUserById(testUserId);
+
+        // When
+        userService.deleteUser(testUserId);
+        userService.getUserById(testUserId);
+
+        // Then
+        verify(userRepository, times(2)).findResponseById(testUserId);
+    }
+
+    @Test
+    void remoteInvalidation_ShouldEvictCachedProfile() {
+        // Given
+        when(userRepository.findResponseById(testUserId)).thenReturn(Optional.of(testResponse));
+        userService.getUserById(testUserId);
+
+        // When - another replica reports a change to this user
+        invalidationChannel.publish(new CacheInvalidationMessage("other-replica", List.of(testUserId)));
+        userService.getUserById(testUserId);
+
+        // Then
+        verify(userRepository, times(2)).findResponseById(testUserId);
+    }
+
+    @Test
+    void updateAvatar_ShouldBroadcastInvalidation_WithoutEvictingLocalRefresh() {
+        // Given
+        List<CacheInvalidationMessage> received = new ArrayList<>();
+        invalidationChannel.subscribe(received::add);
+        when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(i -> i.getArguments()[0]);
+
+        // When
+        userService.updateAvatar(testUserId, UpdateAvatarRequest.builder().avatarUrl("https://x/a.png").build(), null);
+        UserResponse result = userService.getUserById(testUserId);
+
+        // Then
+        assertThat(received).anySatisfy(message -> assertThat(message.getUserIds()).containsExactly(testUserId));
+        assertThat(result.getAvatarUrl()).isEqualTo("https://x/a.png");
+        verify(userRepository, times(1)).findById(testUserId);
+        verify(userRepository, never()).findResponseById(testUserId);
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", CacheConfig.USER_PROFILES)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
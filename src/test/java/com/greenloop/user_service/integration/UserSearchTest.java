@@ -0,0 +1,65 @@
+package com.greenloop.user_service.integration;
+
+import com.greenloop.user_service.dtos.*;
+import com.greenloop.user_service.enums.ImportFormat;
+import com.greenloop.user_service.services.UserImportService;
+import com.greenloop.user_service.services.UserService;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class UserSearchTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Test
+    void searchUsers_ShouldFollowCreatesRenamesAndDeletes() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        userService.createUser(CreateUserRequest.builder().username("Searchable_Sam").build(), userId,
+                userId + "@example.com");
+
+        // When & Then: created users are searchable straight away
+        assertThat(usernames("searchable")).containsExactly("Searchable_Sam");
+
+        userService.updateUser(userId, UpdateUserRequest.builder().username("renamed_sam").build(), null);
+        assertThat(usernames("searchable")).isEmpty();
+        assertThat(usernames("renamed_s")).containsExactly("renamed_sam");
+
+        userService.deleteUser(userId);
+        assertThat(usernames("renamed_s")).isEmpty();
+    }
+
+    @Test
+    void searchUsers_ShouldFindImportedUsers_AndTolerateTypos() throws Exception {
+        // Given
+        String csv = "id,email,username\n"
+                + UUID.randomUUID() + ",imp1@example.com,importedperson\n"
+                + UUID.randomUUID() + ",imp2@example.com,importedpeople\n";
+        userImportService.importUsers(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ImportFormat.CSV);
+
+        // When & Then
+        assertThat(usernames("importedpe")).containsExactly("importedpeople", "importedperson");
+        assertThat(usernames("imprtedpers")).containsExactly("importedperson");
+    }
+
+    private List<String> usernames(String query) {
+        return userService.searchUsers(query, 0, 10).getUsers().stream()
+                .map(UserSearchHit::getUsername)
+                .toList();
+    }
+}
@@ -0,0 +1,116 @@
+package com.greenloop.user_service.unit;
+
+import com.greenloop.user_service.cache.PreSerializedJson;
+import com.greenloop.user_service.dtos.ApiResponse;
+import com.greenloop.user_service.dtos.UserResponse;
+import com.greenloop.user_service.web.ApiResponseJsonConverter;
+import com.greenloop.user_service.web.ResponseTimestamps;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class ApiResponseJsonConverterTest {
+
+    // Configured like Spring Boot's, which writes dates as ISO strings
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final ApiResponseJsonConverter converter = new ApiResponseJsonConverter(objectMapper);
+
+    // ===== OUTPUT TESTS =====
+    @Test
+    void write_ShouldMatchBeanSerialization() throws Exception {
+        // Given
+        UserResponse profile = UserResponse.builder()
+                .id(UUID.randomUUID())
+                .username("envelope_user")
+                .bio("Says \"hi\" in ünïcödé")
+                .joinedDate(LocalDate.of(2024, 3, 1))
+                .version(2L)
+                .build();
+        List<ApiResponse<?>> responses = List.of(
+                ApiResponse.success("User retrieved successfully", profile),
+                ApiResponse.success("Users retrieved successfully", List.of(profile, profile)),
+                ApiResponse.error("User with ID 42 was not found."),
+                new ApiResponse<>(true, null, Map.of("count", 1)),
+                new ApiResponse<>(false, "no timestamp", null, null));
+
+        for (ApiResponse<?> response : responses) {
+            // When & Then: twice, so the second write goes through the pre-encoded message and timestamp
+            assertThat(write(response)).isEqualTo(objectMapper.writeValueAsString(response));
+            assertThat(write(response)).isEqualTo(objectMapper.writeValueAsString(response));
+        }
+    }
+
+    @Test
+    void write_ShouldEmbedPreSerializedData() throws Exception {
+        // Given
+        ApiResponse<PreSerializedJson> response = ApiResponse.success("ok",
+                new PreSerializedJson("{\"id\":1}".getBytes()));
+
+        // When
+        String json = write(response);
+
+        // Then
+        assertThat(json).startsWith("{\"success\":true,\"message\":\"ok\",\"data\":{\"id\":1},\"timestamp\":\"");
+    }
+
+    @Test
+    void write_ShouldFormatEachTimestamp_WhenTimestampsDiffer() throws Exception {
+        // Given
+        LocalDateTime first = LocalDateTime.of(2025, 1, 2, 3, 4, 5, 6_000_000);
+        LocalDateTime second = first.plusNanos(1_000_000);
+
+        // When & Then
+        assertThat(write(new ApiResponse<>(true, "ok", null, first))).endsWith("\"timestamp\":\"2025-01-02T03:04:05.006\"}");
+        assertThat(write(new ApiResponse<>(true, "ok", null, second))).endsWith("\"timestamp\":\"2025-01-02T03:04:05.007\"}");
+    }
+
+    @Test
+    void converter_ShouldOnlyWriteJsonEnvelopes() {
+        assertThat(converter.canWrite(ApiResponse.class, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(converter.canWrite(ApiResponse.class, MediaType.APPLICATION_XML)).isFalse();
+        assertThat(converter.canWrite(UserResponse.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canRead(ApiResponse.class, MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    @Test
+    void write_ShouldSetContentLength_OnlyWhenEnvelopeFitsGeneratorBuffer() throws Exception {
+        // Given
+        MockHttpOutputMessage small = new MockHttpOutputMessage();
+        MockHttpOutputMessage large = new MockHttpOutputMessage();
+
+        // When
+        converter.write(ApiResponse.success("ok", "short"), null, small);
+        converter.write(ApiResponse.success("ok", "x".repeat(20_000)), null, large);
+
+        // Then
+        assertThat(small.getHeaders().getContentLength()).isEqualTo(small.getBodyAsBytes().length);
+        assertThat(small.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(large.getHeaders().getContentLength()).isEqualTo(-1);
+        assertThat(large.getBodyAsBytes().length).isGreaterThan(20_000);
+    }
+
+    // ===== TIMESTAMP TESTS =====
+    @Test
+    void now_ShouldBeTruncatedToMilliseconds() {
+        assertThat(ResponseTimestamps.now().getNano() % 1_000_000).isZero();
+    }
+
+    private String write(ApiResponse<?> response) throws Exception {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(response, MediaType.APPLICATION_JSON, output);
+        return output.getBodyAsString();
+    }
+}
@@ -0,0 +1,172 @@
+package com.greenloop.user_service.unit;
+
+import com.greenloop.user_service.dtos.EventCounterUpdate;
+import com.greenloop.user_service.services.EventCounterBuffer;
+import com.greenloop.user_service.services.UserService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EventCounterBufferTest {
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private EventCounterBuffer buffer;
+
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        buffer = new EventCounterBuffer(userService, taskScheduler, 3, 3);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_ShouldWriteCoalescedDeltasOnce() {
+        // Given
+        for (int i = 0; i < 100; i++) {
+            buffer.record(List.of(attended(alice, 1)));
+        }
+        buffer.record(List.of(attended(bob, 2), attended(alice, -10)));
+
+        // When
+        buffer.flush();
+
+        // Then
+        ArgumentCaptor<List<EventCounterUpdate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userService, times(1)).adjustEventCounters(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(EventCounterUpdate::getUserId, EventCounterUpdate::getAttendedDelta)
+                .containsExactlyInAnyOrder(tuple(alice, 90), tuple(bob, 2));
+        assertThat(buffer.pendingUsers()).isZero();
+    }
+
+    @Test
+    void flush_ShouldSkipDatabase_WhenNothingPending() {
+        // Given
+        buffer.record(List.of(attended(alice, 1), attended(alice, -1)));
+
+        // When
+        buffer.flush();
+
+        // Then
+        verify(userService, never()).adjustEventCounters(anyList());
+    }
+
+    @Test
+    void record_ShouldScheduleEarlyFlushOnce_WhenThresholdReached() {
+        // When
+        buffer.record(List.of(attended(alice, 1), attended(bob, 1), attended(UUID.randomUUID(), 1)));
+        buffer.record(List.of(attended(UUID.randomUUID(), 1)));
+
+        // Then
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_ShouldKeepDeltasForRetry_WhenWriteFails() {
+        // Given
+        buffer.record(List.of(attended(alice, 2)));
+        when(userService.adjustEventCounters(anyList()))
+                .thenThrow(new DataAccessResourceFailureException("database down"))
+                .thenReturn(null);
+        buffer.flush();
+        buffer.record(List.of(attended(alice, 3)));
+
+        // When
+        buffer.flush();
+
+        // Then
+        ArgumentCaptor<List<EventCounterUpdate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userService, times(2)).adjustEventCounters(captor.capture());
+        assertThat(captor.getAllValues().get(1))
+                .extracting(EventCounterUpdate::getAttendedDelta)
+                .containsExactly(5);
+        assertThat(buffer.pendingUsers()).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_ShouldWriteOtherUsersAndDropFailingUser_WhenOneEntryFailsPermanently() {
+        // Given: every write that includes bob fails
+        UUID carol = UUID.randomUUID();
+        when(userService.adjustEventCounters(anyList())).thenAnswer(invocation -> {
+            List<EventCounterUpdate> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(update -> update.getUserId().equals(bob))) {
+                throw new DataIntegrityViolationException("integer out of range");
+            }
+            return null;
+        });
+        buffer.record(List.of(attended(alice, 1), attended(bob, 1)));
+
+        // When
+        buffer.flush();
+        buffer.record(List.of(attended(carol, 4)));
+        buffer.flush();
+        buffer.flush();
+
+        // Then
+        ArgumentCaptor<List<EventCounterUpdate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userService, atLeastOnce()).adjustEventCounters(captor.capture());
+        assertThat(captor.getAllValues().stream()
+                .filter(batch -> batch.size() == 1 && !batch.get(0).getUserId().equals(bob))
+                .map(batch -> batch.get(0)))
+                .extracting(EventCounterUpdate::getUserId, EventCounterUpdate::getAttendedDelta)
+                .containsExactly(tuple(alice, 1), tuple(carol, 4));
+        assertThat(buffer.pendingUsers()).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void record_ShouldRejectWholeBatch_WhenAnyEntryOverflowsPendingDelta() {
+        // Given
+        buffer.record(List.of(attended(alice, Integer.MAX_VALUE)));
+
+        // When & Then
+        assertThatThrownBy(() -> buffer.record(List.of(attended(bob, 2), attended(alice, 1))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(alice.toString());
+
+        buffer.flush();
+        ArgumentCaptor<List<EventCounterUpdate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userService).adjustEventCounters(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(EventCounterUpdate::getUserId, EventCounterUpdate::getAttendedDelta)
+                .containsExactly(tuple(alice, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void record_ShouldRecordNothing_WhenEntriesWithinBatchOverflow() {
+        // When & Then
+        assertThatThrownBy(() -> buffer.record(List.of(attended(bob, 2),
+                attended(alice, Integer.MAX_VALUE), attended(alice, 1))))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(buffer.pendingUsers()).isZero();
+    }
+
+    private EventCounterUpdate attended(UUID userId, int delta) {
+        return EventCounterUpdate.builder().userId(userId).attendedDelta(delta).build();
+    }
+}
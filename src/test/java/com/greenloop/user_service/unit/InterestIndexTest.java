@@ -0,0 +1,246 @@
+package com.greenloop.user_service.unit;
+
+import com.greenloop.user_service.cache.RemoteUserChangedEvent;
+import com.greenloop.user_service.dtos.InterestMatchResponse;
+import com.greenloop.user_service.enums.Interest;
+import com.greenloop.user_service.enums.InterestMatch;
+import com.greenloop.user_service.services.InterestIndex;
+import com.greenloop.user_service.services.InterestStore;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class InterestIndexTest {
+
+    @Mock
+    private InterestStore interestStore;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private InterestIndex interestIndex;
+
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+    private final UUID carol = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        interestIndex = new InterestIndex(interestStore, taskScheduler);
+        interestIndex.addInterests(alice, EnumSet.of(Interest.TREE_PLANTING, Interest.CLEANUPS));
+        interestIndex.addInterests(bob, EnumSet.of(Interest.TREE_PLANTING));
+        interestIndex.addInterests(carol, EnumSet.of(Interest.CLEANUPS, Interest.RECYCLING));
+    }
+
+    // ===== QUERY TESTS =====
+    @Test
+    void find_ShouldIntersect_WhenMatchAll() {
+        // When
+        InterestMatchResponse result = find(InterestMatch.ALL, null, 10, Interest.TREE_PLANTING, Interest.CLEANUPS);
+
+        // Then
+        assertThat(result.getUserIds()).containsExactly(alice);
+        assertThat(result.getTotal()).isEqualTo(1);
+    }
+
+    @Test
+    void find_ShouldUnion_WhenMatchAny() {
+        // When
+        InterestMatchResponse result = find(InterestMatch.ANY, null, 10, Interest.TREE_PLANTING, Interest.RECYCLING);
+
+        // Then
+        assertThat(result.getUserIds()).containsExactlyInAnyOrder(alice, bob, carol);
+        assertThat(result.getTotal()).isEqualTo(3);
+    }
+
+    @Test
+    void find_ShouldReturnEmpty_WhenNoUserHasInterest() {
+        // When
+        InterestMatchResponse result = find(InterestMatch.ALL, null, 10, Interest.WORKSHOP, Interest.CLEANUPS);
+
+        // Then
+        assertThat(result.getUserIds()).isEmpty();
+        assertThat(result.getTotal()).isZero();
+    }
+
+    @Test
+    void find_ShouldPageThroughMatchesInUserIdOrder() {
+        // When
+        InterestMatchResponse first = find(InterestMatch.ANY, null, 2, Interest.TREE_PLANTING, Interest.CLEANUPS);
+        InterestMatchResponse second = find(InterestMatch.ANY, UUID.fromString(first.getNextCursor()), 2,
+                Interest.TREE_PLANTING, Interest.CLEANUPS);
+
+        // Then
+        assertThat(first.getUserIds()).hasSize(2);
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(second.getUserIds()).hasSize(1);
+        assertThat(second.isHasMore()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+        assertThat(second.getTotal()).isEqualTo(3);
+        List<UUID> all = new ArrayList<>(first.getUserIds());
+        all.addAll(second.getUserIds());
+        assertThat(all).containsExactlyElementsOf(sorted(alice, bob, carol));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void find_ShouldContinueFromCursor_AcrossRebuildAndLaterWrites() {
+        // Given - the first page is served before a rebuild reassigns every ordinal
+        List<UUID> users = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            users.add(UUID.randomUUID());
+        }
+        InterestIndex index = new InterestIndex(interestStore, taskScheduler);
+        users.subList(0, 10).forEach(user -> index.addInterests(user, EnumSet.of(Interest.WORKSHOP)));
+        doAnswer(invocation -> {
+            BiConsumer<UUID, Set<Interest>> consumer = invocation.getArgument(0);
+            users.subList(0, 10).forEach(user -> consumer.accept(user, EnumSet.of(Interest.WORKSHOP)));
+            return null;
+        }).when(interestStore).forEachUserInterests(any(BiConsumer.class));
+        InterestMatchResponse first = index.find(EnumSet.of(Interest.WORKSHOP), InterestMatch.ANY, null, 4);
+
+        // When - ordinals are rebuilt and more users arrive before the next pages
+        index.rebuild();
+        users.subList(10, 20).forEach(user -> index.addInterests(user, EnumSet.of(Interest.WORKSHOP)));
+        List<UUID> paged = new ArrayList<>(first.getUserIds());
+        String cursor = first.getNextCursor();
+        while (cursor != null) {
+            InterestMatchResponse page = index.find(EnumSet.of(Interest.WORKSHOP), InterestMatch.ANY,
+                    UUID.fromString(cursor), 4);
+            paged.addAll(page.getUserIds());
+            cursor = page.getNextCursor();
+        }
+
+        // Then - every user after the cursor appears once, in ID order
+        List<UUID> expected = new ArrayList<>(first.getUserIds());
+        UUID last = first.getUserIds().get(first.getUserIds().size() - 1);
+        users.stream().filter(user -> user.compareTo(last) > 0).sorted().forEach(expected::add);
+        assertThat(paged).containsExactlyElementsOf(expected);
+        assertThat(first.getUserIds()).isSorted();
+    }
+
+    // ===== MAINTENANCE TESTS =====
+    @Test
+    void removeUser_ShouldDropUserFromAllInterests() {
+        // When
+        interestIndex.removeUser(alice);
+
+        // Then
+        assertThat(find(InterestMatch.ANY, null, 10, Interest.values()).getUserIds()).containsExactlyInAnyOrder(bob, carol);
+    }
+
+    @Test
+    void onRemoteUserChanged_ShouldReloadUserFromStore() {
+        // Given - another replica changed bob's interests
+        when(interestStore.findInterests(bob)).thenReturn(EnumSet.of(Interest.WORKSHOP));
+
+        // When
+        interestIndex.onRemoteUserChanged(new RemoteUserChangedEvent(List.of(bob)));
+
+        // Then
+        assertThat(find(InterestMatch.ALL, null, 10, Interest.WORKSHOP).getUserIds()).containsExactly(bob);
+        assertThat(find(InterestMatch.ALL, null, 10, Interest.TREE_PLANTING).getUserIds()).containsExactly(alice);
+    }
+
+    @Test
+    void onRemoteUserChanged_ShouldScheduleOneRebuild_WhenAllUsersChanged() {
+        // When
+        interestIndex.onRemoteUserChanged(new RemoteUserChangedEvent(List.of()));
+        interestIndex.onRemoteUserChanged(new RemoteUserChangedEvent(List.of()));
+
+        // Then - the listener returns without scanning the store
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler, times(1)).schedule(task.capture(), any(Instant.class));
+        verify(interestStore, never()).forEachUserInterests(any());
+
+        // And the scheduled task rebuilds, after which a new request schedules again
+        task.getValue().run();
+        verify(interestStore, times(1)).forEachUserInterests(any());
+        interestIndex.onRemoteUserChanged(new RemoteUserChangedEvent(List.of()));
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rebuild_ShouldReplaceIndexWithStoreContents() {
+        // Given - the store reports a user split across several rows
+        UUID dave = UUID.randomUUID();
+        doAnswer(invocation -> {
+            BiConsumer<UUID, Set<Interest>> consumer = invocation.getArgument(0);
+            consumer.accept(dave, EnumSet.of(Interest.UPCYCLING));
+            consumer.accept(dave, EnumSet.of(Interest.VOLUNTEERING));
+            return null;
+        }).when(interestStore).forEachUserInterests(any(BiConsumer.class));
+
+        // When
+        interestIndex.rebuild();
+
+        // Then
+        assertThat(find(InterestMatch.ALL, null, 10, Interest.UPCYCLING, Interest.VOLUNTEERING).getUserIds())
+                .containsExactly(dave);
+        assertThat(find(InterestMatch.ANY, null, 10, Interest.TREE_PLANTING, Interest.CLEANUPS).getTotal()).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rebuild_ShouldKeepServingQueries_WhileStoreIsScanned() {
+        // Given - a query arrives from another thread while the store is being read
+        List<UUID> seenDuringScan = new ArrayList<>();
+        doAnswer(invocation -> {
+            seenDuringScan.addAll(CompletableFuture
+                    .supplyAsync(() -> find(InterestMatch.ALL, null, 10, Interest.TREE_PLANTING).getUserIds())
+                    .get(5, TimeUnit.SECONDS));
+            return null;
+        }).when(interestStore).forEachUserInterests(any(BiConsumer.class));
+
+        // When
+        interestIndex.rebuild();
+
+        // Then - the query was answered from the previous index without waiting for the rebuild
+        assertThat(seenDuringScan).containsExactlyInAnyOrder(alice, bob);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rebuild_ShouldReloadUsers_ChangedWhileStoreIsScanned() {
+        // Given - a write commits after the scan has passed the user
+        UUID erin = UUID.randomUUID();
+        doAnswer(invocation -> {
+            interestIndex.addInterests(erin, EnumSet.of(Interest.WORKSHOP));
+            return null;
+        }).when(interestStore).forEachUserInterests(any(BiConsumer.class));
+        when(interestStore.findInterests(erin)).thenReturn(EnumSet.of(Interest.WORKSHOP));
+
+        // When
+        interestIndex.rebuild();
+
+        // Then
+        assertThat(find(InterestMatch.ALL, null, 10, Interest.WORKSHOP).getUserIds()).containsExactly(erin);
+    }
+
+    private InterestMatchResponse find(InterestMatch match, UUID after, int size, Interest... interests) {
+        return interestIndex.find(EnumSet.copyOf(Arrays.asList(interests)), match, after, size);
+    }
+
+    private static List<UUID> sorted(UUID... userIds) {
+        List<UUID> list = new ArrayList<>(Arrays.asList(userIds));
+        Collections.sort(list);
+        return list;
+    }
+}
@@ -0,0 +1,169 @@
+package com.greenloop.user_service.unit;
+
+import com.greenloop.user_service.enums.Interest;
+import com.greenloop.user_service.repos.UserInterestRepository;
+import com.greenloop.user_service.repos.UserRepository;
+import com.greenloop.user_service.services.BitmaskInterestStore;
+import com.greenloop.user_service.services.TableInterestStore;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class InterestStoreTest {
+
+    @Mock
+    private UserInterestRepository interestRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private TableInterestStore tableStore;
+    private BitmaskInterestStore bitmaskStore;
+    private UUID testUserId;
+
+    @BeforeEach
+    void setUp() {
+        tableStore = new TableInterestStore(interestRepository);
+        bitmaskStore = new BitmaskInterestStore(userRepository);
+        testUserId = UUID.randomUUID();
+    }
+
+    // ===== BITMASK ENCODING TESTS =====
+    @Test
+    void interestMask_ShouldRoundTripEverySubset() {
+        for (int mask = 0; mask < (1 << Interest.values().length); mask++) {
+            assertThat(Interest.toMask(Interest.fromMask(mask))).isEqualTo(mask);
+        }
+    }
+
+    // ===== TABLE STORE TESTS =====
+    @Test
+    void tableStore_ShouldInsertOnlyMissingInterests() {
+        // Given
+        when(interestRepository.findInterestsByUserId(testUserId)).thenReturn(List.of(Interest.RECYCLING));
+        when(interestRepository.insertIgnoringDuplicates(testUserId, EnumSet.of(Interest.WORKSHOP, Interest.CLEANUPS)))
+                .thenReturn(EnumSet.of(Interest.WORKSHOP, Interest.CLEANUPS));
+
+        // When
+        Set<Interest> added = tableStore.addInterests(testUserId,
+                EnumSet.of(Interest.RECYCLING, Interest.WORKSHOP, Interest.CLEANUPS));
+
+        // Then
+        assertThat(added).containsExactly(Interest.WORKSHOP, Interest.CLEANUPS);
+        verify(interestRepository, times(1)).findInterestsByUserId(testUserId);
+        verify(interestRepository, times(1))
+                .insertIgnoringDuplicates(testUserId, EnumSet.of(Interest.WORKSHOP, Interest.CLEANUPS));
+    }
+
+    @Test
+    void tableStore_ShouldReportOnlyInsertedRows_WhenConcurrentRequestAddedSameInterest() {
+        // Given: both interests looked missing, but another request inserted WORKSHOP first
+        when(interestRepository.findInterestsByUserId(testUserId)).thenReturn(List.of());
+        when(interestRepository.insertIgnoringDuplicates(testUserId, EnumSet.of(Interest.WORKSHOP, Interest.CLEANUPS)))
+                .thenReturn(EnumSet.of(Interest.CLEANUPS));
+
+        // When
+        Set<Interest> added = tableStore.addInterests(testUserId, EnumSet.of(Interest.WORKSHOP, Interest.CLEANUPS));
+
+        // Then
+        assertThat(added).containsExactly(Interest.CLEANUPS);
+    }
+
+    @Test
+    void tableStore_ShouldNotInsert_WhenAllInterestsExist() {
+        // Given
+        when(interestRepository.findInterestsByUserId(testUserId)).thenReturn(List.of(Interest.RECYCLING));
+
+        // When
+        Set<Interest> added = tableStore.addInterests(testUserId, EnumSet.of(Interest.RECYCLING));
+
+        // Then
+        assertThat(added).isEmpty();
+        verify(interestRepository, never()).insertIgnoringDuplicates(any(), anyCollection());
+    }
+
+    // ===== BITMASK STORE TESTS =====
+    @Test
+    void bitmaskStore_ShouldDecodeStoredMask() {
+        // Given
+        when(userRepository.findInterestMaskById(testUserId))
+                .thenReturn(Interest.toMask(List.of(Interest.CLEANUPS, Interest.ECO_BAZAARS)));
+
+        // When & Then
+        assertThat(bitmaskStore.findInterests(testUserId)).containsExactly(Interest.CLEANUPS, Interest.ECO_BAZAARS);
+    }
+
+    @Test
+    void bitmaskStore_ShouldMergeIntoCurrentMask() {
+        // Given
+        int current = Interest.toMask(List.of(Interest.RECYCLING));
+        int expected = Interest.toMask(List.of(Interest.RECYCLING, Interest.WORKSHOP));
+        when(userRepository.findInterestMaskById(testUserId)).thenReturn(current);
+        when(userRepository.compareAndSetInterestMask(testUserId, (short) current, (short) expected)).thenReturn(1);
+
+        // When
+        Set<Interest> added = bitmaskStore.addInterests(testUserId, EnumSet.of(Interest.RECYCLING, Interest.WORKSHOP));
+
+        // Then
+        assertThat(added).containsExactly(Interest.WORKSHOP);
+    }
+
+    @Test
+    void bitmaskStore_ShouldRetryWithFreshMask_WhenConcurrentlyModified() {
+        // Given - a concurrent writer adds CLEANUPS between our read and write
+        int first = 0;
+        int second = Interest.toMask(List.of(Interest.CLEANUPS));
+        when(userRepository.findInterestMaskById(testUserId)).thenReturn(first, second);
+        when(userRepository.compareAndSetInterestMask(eq(testUserId), eq((short) first), anyShort())).thenReturn(0);
+        when(userRepository.compareAndSetInterestMask(eq(testUserId), eq((short) second), anyShort())).thenReturn(1);
+
+        // When
+        Set<Interest> added = bitmaskStore.addInterests(testUserId, EnumSet.of(Interest.CLEANUPS, Interest.WORKSHOP));
+
+        // Then
+        assertThat(added).containsExactly(Interest.WORKSHOP);
+        verify(userRepository).compareAndSetInterestMask(testUserId, (short) second,
+                (short) Interest.toMask(List.of(Interest.CLEANUPS, Interest.WORKSHOP)));
+    }
+
+    @Test
+    void bitmaskStore_ShouldGiveUp_WhenContentionPersists() {
+        // Given
+        when(userRepository.findInterestMaskById(testUserId)).thenReturn(0);
+        when(userRepository.compareAndSetInterestMask(eq(testUserId), anyShort(), anyShort())).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> bitmaskStore.addInterests(testUserId, EnumSet.of(Interest.WORKSHOP)))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+    }
+
+    // ===== EXPORT QUERY TESTS =====
+    @Test
+    void tableStore_ShouldExportInterestRows() {
+        assertThat(tableStore.exportQuery("user_service."))
+                .isEqualTo("SELECT user_id, interest FROM user_service.user_interests");
+    }
+
+    @Test
+    void bitmaskStore_ShouldExportOneRowPerSetBit() {
+        // When
+        String query = bitmaskStore.exportQuery("user_service.");
+
+        // Then
+        assertThat(query).contains("FROM user_service.users u");
+        for (Interest interest : Interest.values()) {
+            assertThat(query).contains("(" + interest.ordinal() + ", '" + interest.name() + "')");
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.greenloop.user_service.unit;
+
+import com.greenloop.user_service.cache.ProfileJsonCache;
+import com.greenloop.user_service.cache.PreSerializedJson;
+import com.greenloop.user_service.cache.VersionedCaffeineCache;
+import com.greenloop.user_service.configs.CacheConfig;
+import com.greenloop.user_service.dtos.ApiResponse;
+import com.greenloop.user_service.dtos.UserResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class ProfileJsonCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private ProfileJsonCache profileJsonCache;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        profileJsonCache = new ProfileJsonCache(new ConcurrentMapCacheManager(CacheConfig.USER_PROFILE_JSON),
+                objectMapper);
+        userId = UUID.randomUUID();
+    }
+
+    // ===== CACHE TESTS =====
+    @Test
+    void get_ShouldServeCachedBytes_WhenVersionUnchanged() {
+        // Given
+        PreSerializedJson first = profileJsonCache.get(profile(3L, "bio"));
+
+        // When
+        PreSerializedJson second = profileJsonCache.get(profile(3L, "bio"));
+
+        // Then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void get_ShouldReserialize_WhenVersionMoved() {
+        // Given
+        profileJsonCache.get(profile(3L, "old"));
+
+        // When
+        PreSerializedJson result = profileJsonCache.get(profile(4L, "new"));
+
+        // Then
+        assertThat(result.getValue()).contains("\"bio\":\"new\"");
+        assertThat(profileJsonCache.get(profile(4L, "new"))).isSameAs(result);
+    }
+
+    @Test
+    void versionedCache_ShouldKeepNewerProfile_WhenPutsArriveOutOfOrder() {
+        // Given
+        VersionedCaffeineCache cache = new VersionedCaffeineCache(CacheConfig.USER_PROFILES,
+                Caffeine.newBuilder().build(), value -> ((UserResponse) value).getVersion());
+        cache.put(userId, profile(5L, "newer"));
+
+        // When
+        cache.put(userId, profile(4L, "older"));
+
+        // Then
+        assertThat(cache.get(userId, UserResponse.class).getBio()).isEqualTo("newer");
+        cache.put(userId, profile(6L, "newest"));
+        assertThat(cache.get(userId, UserResponse.class).getBio()).isEqualTo("newest");
+    }
+
+    // ===== SERIALIZATION TESTS =====
+    @Test
+    void envelope_ShouldMatchRegularSerialization_IncludingProfilesLargerThanGeneratorBuffer() throws Exception {
+        for (String bio : List.of("short \"quoted\" bio", "x".repeat(20_000))) {
+            // Given
+            userId = UUID.randomUUID();
+            UserResponse profile = profile(1L, bio);
+            PreSerializedJson json = profileJsonCache.get(profile);
+            LocalDateTime timestamp = LocalDateTime.of(2025, 1, 2, 3, 4, 5, 6_000_000);
+
+            // When
+            byte[] preSerialized = objectMapper.writeValueAsBytes(
+                    new ApiResponse<>(true, "User retrieved successfully", json, timestamp));
+            byte[] regular = objectMapper.writeValueAsBytes(
+                    new ApiResponse<>(true, "User retrieved successfully", profile, timestamp));
+
+            // Then
+            assertThat(new String(preSerialized)).isEqualTo(new String(regular));
+            assertThat(objectMapper.writeValueAsString(
+                    new ApiResponse<>(true, "ok", json, timestamp)))
+                    .contains("\"data\":" + json.getValue());
+        }
+    }
+
+    @Test
+    void envelope_ShouldBeReEncoded_WhenWrittenAsCbor() throws Exception {
+        // Given
+        UserResponse profile = profile(2L, "cbor bio");
+        PreSerializedJson json = profileJsonCache.get(profile);
+        LocalDateTime timestamp = LocalDateTime.of(2025, 1, 2, 3, 4, 5);
+        ObjectMapper cborMapper = CBORMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        // When
+        byte[] preSerialized = cborMapper.writeValueAsBytes(
+                new ApiResponse<>(true, "User retrieved successfully", json, timestamp));
+
+        // Then
+        assertThat(cborMapper.readTree(preSerialized)).isEqualTo(cborMapper.readTree(cborMapper.writeValueAsBytes(
+                new ApiResponse<>(true, "User retrieved successfully", profile, timestamp))));
+    }
+
+    private UserResponse profile(long version, String bio) {
+        return UserResponse.builder()
+                .id(userId)
+                .username("json_user")
+                .email("json@example.com")
+                .bio(bio)
+                .joinedDate(LocalDate.of(2024, 5, 6))
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,318 @@
+package com.greenloop.user_service.unit;
+
+import com.greenloop.user_service.dtos.BatchUserResult;
+import com.greenloop.user_service.dtos.UserInterestsResponse;
+import com.greenloop.user_service.dtos.UserResponse;
+import com.greenloop.user_service.exceptions.UserNotFoundException;
+import com.greenloop.user_service.grpc.GrpcExceptionInterceptor;
+import com.greenloop.user_service.grpc.UserGrpcService;
+import com.greenloop.user_service.grpc.proto.AddInterestsRequest;
+import com.greenloop.user_service.grpc.proto.BatchGetUsersRequest;
+import com.greenloop.user_service.grpc.proto.BatchGetUsersResponse;
+import com.greenloop.user_service.grpc.proto.GetInterestsRequest;
+import com.greenloop.user_service.grpc.proto.GetUserRequest;
+import com.greenloop.user_service.grpc.proto.ListUsersRequest;
+import com.greenloop.user_service.grpc.proto.User;
+import com.greenloop.user_service.grpc.proto.UserServiceGrpc;
+import com.greenloop.user_service.services.UserService;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserGrpcServiceTest {
+
+    @Mock
+    private UserService userService;
+
+    private Server server;
+    private ManagedChannel channel;
+    private UserServiceGrpc.UserServiceBlockingStub stub;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        // Handlers run on the server's own executor: ListUsers waits for the client to read
+        server = InProcessServerBuilder.forName(name)
+                .addService(ServerInterceptors.intercept(new UserGrpcService(userService, 2, 1),
+                        new GrpcExceptionInterceptor()))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).build();
+        stub = UserServiceGrpc.newBlockingStub(channel);
+        userId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    // ===== GET USER TESTS =====
+    @Test
+    void getUser_ShouldMapProfile_LeavingAbsentFieldsUnset() {
+        // Given
+        when(userService.getUserById(userId)).thenReturn(profile(userId, "grpc_user"));
+
+        // When
+        User user = stub.getUser(GetUserRequest.newBuilder().setUserId(userId.toString()).build());
+
+        // Then
+        assertThat(user.getId()).isEqualTo(userId.toString());
+        assertThat(user.getUsername()).isEqualTo("grpc_user");
+        assertThat(user.getJoinedDate()).isEqualTo("2024-05-06");
+        assertThat(user.getEventsAttended()).isEqualTo(3);
+        assertThat(user.getVersion()).isEqualTo(7L);
+        assertThat(user.hasBio()).isFalse();
+        assertThat(user.hasBirthDate()).isFalse();
+    }
+
+    @Test
+    void getUser_ShouldReturnNotFound_WhenUserMissing() {
+        // Given
+        when(userService.getUserById(userId)).thenThrow(new UserNotFoundException("User not found"));
+
+        // When & Then
+        assertThatThrownBy(() -> stub.getUser(GetUserRequest.newBuilder().setUserId(userId.toString()).build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.NOT_FOUND));
+    }
+
+    @Test
+    void getUser_ShouldReturnInvalidArgument_WhenIdMalformed() {
+        assertThatThrownBy(() -> stub.getUser(GetUserRequest.newBuilder().setUserId("not-a-uuid").build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT));
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void getUser_ShouldReturnInternal_WhenHandlerFailsUnexpectedly() {
+        // Given: a bug such as a write to an immutable list is not "unimplemented"
+        when(userService.getUserById(userId)).thenThrow(new UnsupportedOperationException());
+
+        // When & Then
+        assertThatThrownBy(() -> stub.getUser(GetUserRequest.newBuilder().setUserId(userId.toString()).build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INTERNAL));
+    }
+
+    @Test
+    void getUser_ShouldNotExposeExceptionMessage_WhenHandlerFailsUnexpectedly() {
+        // Given
+        when(userService.getUserById(userId)).thenThrow(
+                new IllegalStateException("could not execute statement [select u.id from user_service.users u]"));
+
+        // When & Then
+        assertThatThrownBy(() -> stub.getUser(GetUserRequest.newBuilder().setUserId(userId.toString()).build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class, e -> {
+                    assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INTERNAL);
+                    assertThat(e.getStatus().getDescription()).isEqualTo("An unexpected error occurred");
+                });
+    }
+
+    // ===== BATCH TESTS =====
+    @Test
+    void batchGetUsers_ShouldKeepRequestOrder_AndFlagMissingUsers() {
+        // Given
+        UUID missingId = UUID.randomUUID();
+        when(userService.getUsersByIds(List.of(missingId, userId))).thenReturn(List.of(
+                BatchUserResult.builder().id(missingId).found(false).build(),
+                BatchUserResult.builder().id(userId).found(true).user(profile(userId, "found")).build()));
+
+        // When
+        BatchGetUsersResponse response = stub.batchGetUsers(BatchGetUsersRequest.newBuilder()
+                .addUserIds(missingId.toString())
+                .addUserIds(userId.toString())
+                .build());
+
+        // Then
+        assertThat(response.getResultsList()).hasSize(2);
+        assertThat(response.getResults(0).getFound()).isFalse();
+        assertThat(response.getResults(0).hasUser()).isFalse();
+        assertThat(response.getResults(1).getUser().getUsername()).isEqualTo("found");
+    }
+
+    @Test
+    void batchGetUsers_ShouldReturnInvalidArgument_WhenOverLimit() {
+        // Given
+        BatchGetUsersRequest request = BatchGetUsersRequest.newBuilder()
+                .addUserIds(UUID.randomUUID().toString())
+                .addUserIds(UUID.randomUUID().toString())
+                .addUserIds(UUID.randomUUID().toString())
+                .build();
+
+        // When & Then
+        assertThatThrownBy(() -> stub.batchGetUsers(request))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT));
+        verifyNoInteractions(userService);
+    }
+
+    // ===== INTEREST TESTS =====
+    @Test
+    void getInterests_ShouldReturnInterests() {
+        // Given
+        when(userService.getInterests(userId))
+                .thenReturn(UserInterestsResponse.builder().interests(List.of("CLEANUPS")).build());
+
+        // When & Then
+        assertThat(stub.getInterests(GetInterestsRequest.newBuilder().setUserId(userId.toString()).build())
+                .getInterestsList())
+                .containsExactly("CLEANUPS");
+    }
+
+    @Test
+    void getInterests_ShouldReturnNotFound_WhenUserMissing() {
+        // Given
+        when(userService.getUserVersion(userId)).thenThrow(new UserNotFoundException("User not found"));
+
+        // When & Then
+        assertThatThrownBy(() -> stub.getInterests(GetInterestsRequest.newBuilder()
+                .setUserId(userId.toString())
+                .build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.NOT_FOUND));
+        verify(userService, never()).getInterests(any());
+    }
+
+    @Test
+    void addInterests_ShouldReturnAddedInterests() {
+        // Given
+        when(userService.addInterests(userId, List.of("recycling")))
+                .thenReturn(UserInterestsResponse.builder().interests(List.of("RECYCLING")).build());
+
+        // When & Then
+        assertThat(stub.addInterests(AddInterestsRequest.newBuilder()
+                .setUserId(userId.toString())
+                .addInterests("recycling")
+                .build()).getInterestsList())
+                .containsExactly("RECYCLING");
+    }
+
+    @Test
+    void addInterests_ShouldReturnInvalidArgument_WhenInterestUnknown() {
+        // Given
+        when(userService.addInterests(eq(userId), anyList()))
+                .thenThrow(new IllegalArgumentException("No enum constant"));
+
+        // When & Then
+        assertThatThrownBy(() -> stub.addInterests(AddInterestsRequest.newBuilder()
+                .setUserId(userId.toString())
+                .addInterests("juggling")
+                .build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT));
+    }
+
+    // ===== STREAMING TESTS =====
+    @Test
+    @SuppressWarnings("unchecked")
+    void listUsers_ShouldStreamEveryUser() {
+        // Given
+        List<UserResponse> users = List.of(profile(UUID.randomUUID(), "first"), profile(UUID.randomUUID(), "second"));
+        doAnswer(invocation -> {
+            users.forEach(invocation.getArgument(0, Consumer.class));
+            return null;
+        }).when(userService).streamAllUsers(any());
+
+        // When
+        List<String> usernames = new ArrayList<>();
+        stub.listUsers(ListUsersRequest.getDefaultInstance()).forEachRemaining(user -> usernames.add(user.getUsername()));
+
+        // Then
+        assertThat(usernames).containsExactly("first", "second");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void listUsers_ShouldFailWithDeadlineExceeded_WhenClientStopsReading() throws Exception {
+        // Given: more users than the client will ever ask for
+        CompletableFuture<Throwable> serverFailure = new CompletableFuture<>();
+        doAnswer(invocation -> {
+            Consumer<UserResponse> consumer = invocation.getArgument(0, Consumer.class);
+            try {
+                for (int i = 0; i < 100; i++) {
+                    consumer.accept(profile(UUID.randomUUID(), "user" + i));
+                }
+            } catch (RuntimeException e) {
+                serverFailure.complete(e);
+                throw e;
+            }
+            return null;
+        }).when(userService).streamAllUsers(any());
+
+        // When: the client requests one message and never reads again
+        AtomicInteger received = new AtomicInteger();
+        CompletableFuture<Throwable> clientError = new CompletableFuture<>();
+        UserServiceGrpc.newStub(channel).listUsers(ListUsersRequest.getDefaultInstance(),
+                new ClientResponseObserver<ListUsersRequest, User>() {
+                    @Override
+                    public void beforeStart(ClientCallStreamObserver<ListUsersRequest> requestStream) {
+                        requestStream.disableAutoRequestWithInitial(1);
+                    }
+
+                    @Override
+                    public void onNext(User user) {
+                        received.incrementAndGet();
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        clientError.complete(t);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        clientError.complete(null);
+                    }
+                });
+
+        // Then: the handler gives up, which unwinds streamAllUsers and its cursor
+        assertThat(serverFailure.get(10, TimeUnit.SECONDS))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.DEADLINE_EXCEEDED));
+        assertThat(clientError.get(10, TimeUnit.SECONDS))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.DEADLINE_EXCEEDED));
+        assertThat(received.get()).isLessThan(100);
+    }
+
+    private UserResponse profile(UUID id, String username) {
+        return UserResponse.builder()
+                .id(id)
+                .username(username)
+                .email(username + "@example.com")
+                .joinedDate(LocalDate.of(2024, 5, 6))
+                .eventsAttended(3)
+                .version(7L)
+                .build();
+    }
+}
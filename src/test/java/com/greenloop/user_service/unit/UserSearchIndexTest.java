@@ -0,0 +1,146 @@
+package com.greenloop.user_service.unit;
+
+import com.greenloop.user_service.cache.RemoteUserChangedEvent;
+import com.greenloop.user_service.cache.UserChangedEvent;
+import com.greenloop.user_service.dtos.UserResponse;
+import com.greenloop.user_service.dtos.UserSearchHit;
+import com.greenloop.user_service.repos.UserRepository;
+import com.greenloop.user_service.services.InMemoryUserSearchIndex;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserSearchIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InMemoryUserSearchIndex searchIndex;
+    private final Map<String, UUID> ids = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new InMemoryUserSearchIndex(userRepository, new TransactionTemplate(transactionManager));
+        List<UserResponse> users = Stream.of("alice", "Alicia", "alison", "bob", "bobby", "wilbur", "malice",
+                "jonathan", "johnny", "jon_snow")
+                .map(this::user)
+                .toList();
+        when(userRepository.streamAllOrdered()).thenReturn(users.stream());
+        searchIndex.rebuild();
+    }
+
+    // ===== PREFIX TESTS =====
+    @Test
+    void search_ShouldReturnPrefixMatchesAlphabetically_IgnoringCase() {
+        assertThat(usernames(searchIndex.search("ALI", 0, 10)))
+                .startsWith("alice", "Alicia", "alison");
+    }
+
+    @Test
+    void search_ShouldNotMatchFuzzily_WhenQueryIsShort() {
+        assertThat(usernames(searchIndex.search("bo", 0, 10))).containsExactly("bob", "bobby");
+    }
+
+    @Test
+    void search_ShouldPageThroughRankedMatches() {
+        assertThat(usernames(searchIndex.search("ali", 1, 2))).containsExactly("Alicia", "alison");
+    }
+
+    // ===== FUZZY TESTS =====
+    @Test
+    void search_ShouldAppendCloseMisspellings_AfterPrefixMatches() {
+        // When: "malice" starts with one extra letter, "alison" is one substitution from "alis"
+        List<String> result = usernames(searchIndex.search("alic", 0, 10));
+
+        // Then
+        assertThat(result).containsExactly("alice", "Alicia", "alison", "malice");
+    }
+
+    @Test
+    void search_ShouldTolerateTypos() {
+        assertThat(usernames(searchIndex.search("jhon", 0, 10))).contains("johnny", "jon_snow", "jonathan");
+        assertThat(usernames(searchIndex.search("bobyy", 0, 10))).containsExactly("bobby");
+    }
+
+    @Test
+    void search_ShouldRankCloserMatchesFirst() {
+        // When: "jonathon" is one edit from "jonathan", "johnny" much further
+        List<String> result = usernames(searchIndex.search("jonathon", 0, 10));
+
+        // Then
+        assertThat(result).containsExactly("jonathan");
+    }
+
+    // ===== SYNC TESTS =====
+    @Test
+    void refresh_ShouldApplyRenamesAndDeletions() {
+        // Given
+        UserResponse renamed = UserResponse.builder().id(ids.get("wilbur")).username("orville").build();
+        when(userRepository.findResponsesByIdIn(List.of(ids.get("wilbur"), ids.get("bobby"))))
+                .thenReturn(List.of(renamed));
+
+        // When
+        searchIndex.refresh(List.of(ids.get("wilbur"), ids.get("bobby")));
+
+        // Then
+        assertThat(searchIndex.search("wilbur", 0, 10)).isEmpty();
+        assertThat(usernames(searchIndex.search("bo", 0, 10))).containsExactly("bob");
+        assertThat(usernames(searchIndex.search("orv", 0, 10))).containsExactly("orville");
+    }
+
+    @Test
+    void onUserChanged_ShouldReloadChangedUsers_OnNextSearchOnly() {
+        // Given
+        UUID newUserId = UUID.randomUUID();
+        when(userRepository.findResponsesByIdIn(List.of(newUserId)))
+                .thenReturn(List.of(UserResponse.builder().id(newUserId).username("newcomer").build()));
+
+        // When
+        searchIndex.onUserChanged(UserChangedEvent.of(newUserId));
+
+        // Then
+        verify(userRepository, never()).findResponsesByIdIn(any());
+        assertThat(usernames(searchIndex.search("newc", 0, 10))).containsExactly("newcomer");
+        searchIndex.search("newc", 0, 10);
+        verify(userRepository, times(1)).findResponsesByIdIn(any());
+    }
+
+    @Test
+    void onRemoteUserChanged_ShouldRebuild_WhenAllUsersChanged() {
+        // Given
+        when(userRepository.streamAllOrdered()).thenReturn(Stream.of(user("zoe")));
+
+        // When
+        searchIndex.onRemoteUserChanged(new RemoteUserChangedEvent(List.of()));
+
+        // Then
+        assertThat(searchIndex.search("ali", 0, 10)).isEmpty();
+        assertThat(usernames(searchIndex.search("zo", 0, 10))).containsExactly("zoe");
+    }
+
+    private UserResponse user(String username) {
+        UUID id = UUID.randomUUID();
+        ids.put(username, id);
+        return UserResponse.builder().id(id).username(username).build();
+    }
+
+    private List<String> usernames(List<UserSearchHit> hits) {
+        return hits.stream().map(UserSearchHit::getUsername).toList();
+    }
+}
@@ -1,12 +1,17 @@
 package com.greenloop.user_service.unit;
 
+import com.greenloop.user_service.cache.UserChangedEvent;
+import com.greenloop.user_service.configs.CacheConfig;
 import com.greenloop.user_service.dtos.*;
 import com.greenloop.user_service.enums.Interest;
+import com.greenloop.user_service.enums.InterestMatch;
 import com.greenloop.user_service.exceptions.UserNotFoundException;
 import com.greenloop.user_service.models.User;
-import com.greenloop.user_service.models.UserInterest;
-import com.greenloop.user_service.repos.UserInterestRepository;
 import com.greenloop.user_service.repos.UserRepository;
+import com.greenloop.user_service.services.InterestIndex;
+import com.greenloop.user_service.services.InterestsAddedEvent;
+import com.greenloop.user_service.services.InterestStore;
+import com.greenloop.user_service.services.UserSearchIndex;
 import com.greenloop.user_service.services.UserService;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -15,9 +20,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -30,7 +41,22 @@ public class UserServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private UserInterestRepository interestRepository;
+    private InterestStore interestStore;
+
+    @Mock
+    private InterestIndex interestIndex;
+
+    @Mock
+    private UserSearchIndex userSearchIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache profileCache;
 
     @InjectMocks
     private UserService userService;
@@ -75,40 +101,89 @@ public class UserServiceTest {
                 .build();
     }
 
-    // ===== GET ALL USERS TESTS =====
+    // ===== GET USERS PAGE TESTS =====
+    @Test
+    void getUsersPage_ShouldReturnFirstPageWithCursor_WhenMoreUsersExist() {
+        // Given
+        testUser.setJoinedDate(LocalDate.of(2024, 1, 1));
+        User another = createAnotherUser();
+        another.setJoinedDate(LocalDate.of(2024, 1, 2));
+        when(userRepository.findFirstPage(Limit.of(2))).thenReturn(Arrays.asList(toResponse(testUser), toResponse(another)));
+
+        // When
+        UserPageResponse result = userService.getUsersPage(null, 1);
+
+        // Then
+        assertThat(result.getUsers()).hasSize(1);
+        assertThat(result.getUsers().get(0).getUsername()).isEqualTo("testuser");
+        assertThat(result.isHasMore()).isTrue();
+        assertThat(result.getNextCursor()).isNotBlank();
+    }
+
     @Test
-    void getAllUsers_ShouldReturnListOfUsers() {
+    void getUsersPage_ShouldResumeAfterCursorPosition() {
         // Given
-        List<User> users = Arrays.asList(testUser, createAnotherUser());
-        when(userRepository.findAll()).thenReturn(users);
+        testUser.setJoinedDate(LocalDate.of(2024, 1, 1));
+        User another = createAnotherUser();
+        another.setJoinedDate(LocalDate.of(2024, 1, 2));
+        when(userRepository.findFirstPage(Limit.of(2))).thenReturn(Arrays.asList(toResponse(testUser), toResponse(another)));
+        when(userRepository.findPageAfter(LocalDate.of(2024, 1, 1), testUserId, Limit.of(2)))
+                .thenReturn(List.of(toResponse(another)));
+        String cursor = userService.getUsersPage(null, 1).getNextCursor();
 
         // When
-        List<UserResponse> result = userService.getAllUsers();
+        UserPageResponse result = userService.getUsersPage(cursor, 1);
 
         // Then
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).getUsername()).isEqualTo("testuser");
-        verify(userRepository, times(1)).findAll();
+        assertThat(result.getUsers()).extracting(UserResponse::getUsername).containsExactly("anotheruser");
+        assertThat(result.isHasMore()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
     }
 
     @Test
-    void getAllUsers_ShouldReturnEmptyList_WhenNoUsers() {
+    void getUsersPage_ShouldReturnEmptyPage_WhenNoUsers() {
         // Given
-        when(userRepository.findAll()).thenReturn(Collections.emptyList());
+        when(userRepository.findFirstPage(any())).thenReturn(Collections.emptyList());
 
         // When
-        List<UserResponse> result = userService.getAllUsers();
+        UserPageResponse result = userService.getUsersPage(null, 50);
 
         // Then
-        assertThat(result).isEmpty();
-        verify(userRepository, times(1)).findAll();
+        assertThat(result.getUsers()).isEmpty();
+        assertThat(result.isHasMore()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getUsersPage_ShouldThrowException_WhenCursorIsMalformed() {
+        // When & Then
+        assertThatThrownBy(() -> userService.getUsersPage("not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid cursor");
+
+        verify(userRepository, never()).findPageAfter(any(), any(), any());
+    }
+
+    // ===== STREAM USERS TESTS =====
+    @Test
+    void streamAllUsers_ShouldEmitEachUserInOrder() {
+        // Given
+        User another = createAnotherUser();
+        when(userRepository.streamAllOrdered()).thenReturn(Stream.of(toResponse(testUser), toResponse(another)));
+        List<UserResponse> emitted = new ArrayList<>();
+
+        // When
+        userService.streamAllUsers(emitted::add);
+
+        // Then
+        assertThat(emitted).extracting(UserResponse::getUsername).containsExactly("testuser", "anotheruser");
     }
 
     // ===== GET USER BY ID TESTS =====
     @Test
     void getUserById_ShouldReturnUser_WhenUserExists() {
         // Given
-        when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
+        when(userRepository.findResponseById(testUserId)).thenReturn(Optional.of(toResponse(testUser)));
 
         // When
         UserResponse result = userService.getUserById(testUserId);
@@ -118,20 +193,59 @@ public class UserServiceTest {
         assertThat(result.getId()).isEqualTo(testUserId);
         assertThat(result.getUsername()).isEqualTo("testuser");
         assertThat(result.getEmail()).isEqualTo("test@example.com");
-        verify(userRepository, times(1)).findById(testUserId);
+        verify(userRepository, times(1)).findResponseById(testUserId);
+        verify(userRepository, never()).findById(any());
     }
 
     @Test
     void getUserById_ShouldThrowException_WhenUserNotFound() {
         // Given
-        when(userRepository.findById(testUserId)).thenReturn(Optional.empty());
+        when(userRepository.findResponseById(testUserId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> userService.getUserById(testUserId))
                 .isInstanceOf(UserNotFoundException.class)
                 .hasMessageContaining("User with ID " + testUserId + " was not found.");
 
-        verify(userRepository, times(1)).findById(testUserId);
+        verify(userRepository, times(1)).findResponseById(testUserId);
+    }
+
+    // ===== BATCH LOOKUP TESTS =====
+    @Test
+    void getUsersByIds_ShouldPreserveRequestOrderAndMarkMissing() {
+        // Given
+        User another = createAnotherUser();
+        UUID missingId = UUID.randomUUID();
+        List<UUID> ids = List.of(another.getId(), missingId, testUserId, another.getId());
+        when(userRepository.findResponsesByIdIn(List.of(another.getId(), missingId, testUserId)))
+                .thenReturn(List.of(toResponse(testUser), toResponse(another)));
+
+        // When
+        List<BatchUserResult> result = userService.getUsersByIds(ids);
+
+        // Then
+        assertThat(result).extracting(BatchUserResult::getId).containsExactlyElementsOf(ids);
+        assertThat(result).extracting(BatchUserResult::isFound).containsExactly(true, false, true, true);
+        assertThat(result.get(0).getUser().getUsername()).isEqualTo("anotheruser");
+        assertThat(result.get(1).getUser()).isNull();
+        verify(userRepository, times(1)).findResponsesByIdIn(anyList());
+    }
+
+    @Test
+    void getUsersByIds_ShouldQueryInChunks_WhenManyIdsRequested() {
+        // Given
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        when(userRepository.findResponsesByIdIn(anyList())).thenReturn(Collections.emptyList());
+
+        // When
+        List<BatchUserResult> result = userService.getUsersByIds(ids);
+
+        // Then
+        assertThat(result).hasSize(2500).noneMatch(BatchUserResult::isFound);
+        verify(userRepository, times(3)).findResponsesByIdIn(anyList());
     }
 
     // ===== CREATE USER TESTS =====
@@ -153,6 +267,8 @@ public class UserServiceTest {
         assertThat(result.getUsername()).isEqualTo("testuser");
 
         verify(userRepository, times(1)).save(any(User.class));
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                ((UserChangedEvent) event).getUserIds().equals(List.of(testUserId))));
     }
 
     @Test
@@ -180,15 +296,16 @@ public class UserServiceTest {
     void updateUser_ShouldUpdateAllFields_WhenAllProvided() {
         // Given
         when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(testUser);
 
         // When
-        UserResponse result = userService.updateUser(testUserId, updateUserRequest);
+        UserResponse result = userService.updateUser(testUserId, updateUserRequest, null);
 
         // Then
         assertThat(result).isNotNull();
         verify(userRepository, times(1)).findById(testUserId);
-        verify(userRepository, times(1)).save(testUser);
+        verify(userRepository, times(1)).saveAndFlush(testUser);
+        verify(eventPublisher, times(1)).publishEvent(any(UserChangedEvent.class));
         assertThat(testUser.getUsername()).isEqualTo("updateduser");
         assertThat(testUser.getBio()).isEqualTo("Updated bio");
     }
@@ -204,16 +321,16 @@ public class UserServiceTest {
         LocalDate originalBirthDate = testUser.getBirthDate();
 
         when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(testUser);
 
         // When
-        UserResponse result = userService.updateUser(testUserId, partialUpdate);
+        UserResponse result = userService.updateUser(testUserId, partialUpdate, null);
 
         // Then
         assertThat(testUser.getUsername()).isEqualTo("newusername");
         assertThat(testUser.getBio()).isEqualTo(originalBio);
         assertThat(testUser.getBirthDate()).isEqualTo(originalBirthDate);
-        verify(userRepository, times(1)).save(testUser);
+        verify(userRepository, times(1)).saveAndFlush(testUser);
     }
 
     @Test
@@ -222,11 +339,12 @@ public class UserServiceTest {
         when(userRepository.findById(testUserId)).thenReturn(Optional.empty());
 
         // When & Then
-        assertThatThrownBy(() -> userService.updateUser(testUserId, updateUserRequest))
+        assertThatThrownBy(() -> userService.updateUser(testUserId, updateUserRequest, null))
                 .isInstanceOf(UserNotFoundException.class)
                 .hasMessageContaining("User with ID " + testUserId + " was not found.");
 
-        verify(userRepository, never()).save(any(User.class));
+        verify(userRepository, never()).saveAndFlush(any(User.class));
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     // ===== UPDATE AVATAR TESTS =====
@@ -234,16 +352,16 @@ public class UserServiceTest {
     void updateAvatar_ShouldUpdateAvatarUrl() {
         // Given
         when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(testUser);
 
         // When
-        UserResponse result = userService.updateAvatar(testUserId, updateAvatarRequest);
+        UserResponse result = userService.updateAvatar(testUserId, updateAvatarRequest, null);
 
         // Then
         assertThat(result).isNotNull();
         assertThat(testUser.getAvatarUrl()).isEqualTo("https://example.com/new-avatar.jpg");
         verify(userRepository, times(1)).findById(testUserId);
-        verify(userRepository, times(1)).save(testUser);
+        verify(userRepository, times(1)).saveAndFlush(testUser);
     }
 
     @Test
@@ -252,11 +370,95 @@ public class UserServiceTest {
         when(userRepository.findById(testUserId)).thenReturn(Optional.empty());
 
         // When & Then
-        assertThatThrownBy(() -> userService.updateAvatar(testUserId, updateAvatarRequest))
+        assertThatThrownBy(() -> userService.updateAvatar(testUserId, updateAvatarRequest, null))
                 .isInstanceOf(UserNotFoundException.class)
                 .hasMessageContaining("User with ID " + testUserId + " was not found.");
     }
 
+    // ===== EVENT COUNTER TESTS =====
+    @Test
+    void adjustEventCounters_ShouldApplyAtomicUpdateAndReturnFreshProfile() {
+        // Given
+        EventCounterRequest request = EventCounterRequest.builder().attendedDelta(1).registeredDelta(-1).build();
+        when(userRepository.addToEventCounters(testUserId, 1, -1)).thenReturn(1);
+        when(userRepository.findResponseById(testUserId)).thenReturn(Optional.of(toResponse(testUser)));
+
+        // When
+        UserResponse result = userService.adjustEventCounters(testUserId, request);
+
+        // Then
+        assertThat(result.getId()).isEqualTo(testUserId);
+        verify(userRepository, never()).findById(any());
+        verify(userRepository, never()).save(any(User.class));
+        verify(eventPublisher, times(1)).publishEvent(any(UserChangedEvent.class));
+    }
+
+    @Test
+    void adjustEventCounters_ShouldThrowException_WhenUserNotFound() {
+        // Given
+        when(userRepository.addToEventCounters(eq(testUserId), anyInt(), anyInt())).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> userService.adjustEventCounters(testUserId,
+                EventCounterRequest.builder().attendedDelta(1).build()))
+                .isInstanceOf(UserNotFoundException.class);
+
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void adjustEventCountersBulk_ShouldMergeDuplicatesAndRefreshCachedProfiles() {
+        // Given
+        UUID otherId = UUID.randomUUID();
+        List<EventCounterUpdate> updates = List.of(
+                EventCounterUpdate.builder().userId(testUserId).attendedDelta(1).build(),
+                EventCounterUpdate.builder().userId(otherId).registeredDelta(2).build(),
+                EventCounterUpdate.builder().userId(testUserId).attendedDelta(4).registeredDelta(1).build());
+        when(userRepository.bulkAddToEventCounters(anyCollection())).thenReturn(2);
+        UserResponse refreshed = UserResponse.builder().id(testUserId).version(4L).build();
+        UserResponse otherRefreshed = UserResponse.builder().id(otherId).version(1L).build();
+        when(userRepository.findResponsesByIdIn(List.of(testUserId, otherId)))
+                .thenReturn(List.of(refreshed, otherRefreshed));
+        when(cacheManager.getCache(CacheConfig.USER_PROFILES)).thenReturn(profileCache);
+
+        // When
+        EventCounterBulkResponse result = userService.adjustEventCounters(updates);
+
+        // Then
+        assertThat(result.getRequested()).isEqualTo(2);
+        assertThat(result.getUpdated()).isEqualTo(2);
+        verify(userRepository).bulkAddToEventCounters(argThat(merged -> {
+            List<EventCounterUpdate> list = new ArrayList<>((Collection<EventCounterUpdate>) merged);
+            return list.size() == 2
+                    && list.get(0).getUserId().equals(testUserId)
+                    && list.get(0).getAttendedDelta() == 5
+                    && list.get(0).getRegisteredDelta() == 1;
+        }));
+        verify(profileCache).put(testUserId, refreshed);
+        verify(profileCache).put(otherId, otherRefreshed);
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                ((UserChangedEvent) event).getUserIds().equals(List.of(testUserId, otherId))));
+    }
+
+    @Test
+    void adjustEventCountersBulk_ShouldUpdateInChunks_WhenManyUsers() {
+        // Given
+        List<EventCounterUpdate> updates = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            updates.add(EventCounterUpdate.builder().userId(UUID.randomUUID()).attendedDelta(1).build());
+        }
+        when(userRepository.bulkAddToEventCounters(anyCollection())).thenReturn(0);
+
+        // When
+        EventCounterBulkResponse result = userService.adjustEventCounters(updates);
+
+        // Then
+        assertThat(result.getUpdated()).isZero();
+        verify(userRepository, times(3)).bulkAddToEventCounters(anyCollection());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
     // ===== DELETE USER TESTS =====
     @Test
     void deleteUser_ShouldDeleteUser_WhenUserExists() {
@@ -270,6 +472,9 @@ public class UserServiceTest {
         // Then
         verify(userRepository, times(1)).existsById(testUserId);
         verify(userRepository, times(1)).deleteById(testUserId);
+        verify(interestIndex, times(1)).removeUser(testUserId);
+        verify(eventPublisher, times(1)).publishEvent(argThat((Object event) ->
+                ((UserChangedEvent) event).getUserIds().equals(List.of(testUserId))));
     }
 
     @Test
@@ -289,8 +494,8 @@ public class UserServiceTest {
     @Test
     void getInterests_ShouldReturnUserInterests() {
         // Given
-        List<UserInterest> interests = createUserInterests();
-        when(interestRepository.findByUserId(testUserId)).thenReturn(interests);
+        when(interestStore.findInterests(testUserId))
+                .thenReturn(EnumSet.of(Interest.RECYCLING, Interest.TREE_PLANTING));
 
         // When
         UserInterestsResponse result = userService.getInterests(testUserId);
@@ -299,73 +504,155 @@ public class UserServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getInterests()).hasSize(2);
         assertThat(result.getInterests()).contains("RECYCLING", "TREE_PLANTING");
-        verify(interestRepository, times(1)).findByUserId(testUserId);
+        verify(interestStore, times(1)).findInterests(testUserId);
     }
 
     @Test
     void getInterests_ShouldReturnEmptyList_WhenNoInterests() {
         // Given
-        when(interestRepository.findByUserId(testUserId)).thenReturn(Collections.emptyList());
+        when(interestStore.findInterests(testUserId)).thenReturn(EnumSet.noneOf(Interest.class));
 
         // When
         UserInterestsResponse result = userService.getInterests(testUserId);
 
         // Then
         assertThat(result.getInterests()).isEmpty();
-        verify(interestRepository, times(1)).findByUserId(testUserId);
+        verify(interestStore, times(1)).findInterests(testUserId);
     }
 
     // ===== ADD INTERESTS TESTS =====
     @Test
     void addInterests_ShouldAddNewInterests() {
         // Given
-        List<String> newInterests = Arrays.asList("RECYCLING", "WORKSHOP");
-        when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
-
-        // Mock for RECYCLING
-        when(interestRepository.existsByUserIdAndInterest(
-                eq(testUserId), 
-                eq(Interest.RECYCLING))) 
-                .thenReturn(false);
-
-        // Mock for WORKSHOP
-        when(interestRepository.existsByUserIdAndInterest(
-                eq(testUserId), 
-                eq(Interest.WORKSHOP))) 
-                .thenReturn(false);
-
-        when(interestRepository.saveAll(anyList())).thenAnswer(i -> i.getArguments()[0]);
+        List<String> newInterests = Arrays.asList("RECYCLING", "workshop", "WORKSHOP");
+        EnumSet<Interest> requested = EnumSet.of(Interest.RECYCLING, Interest.WORKSHOP);
+        when(userRepository.existsById(testUserId)).thenReturn(true);
+        when(interestStore.addInterests(testUserId, requested)).thenReturn(requested);
+        UserResponse refreshed = UserResponse.builder().id(testUserId).version(2L).build();
+        when(userRepository.findResponsesByIdIn(List.of(testUserId))).thenReturn(List.of(refreshed));
+        when(cacheManager.getCache(CacheConfig.USER_PROFILES)).thenReturn(profileCache);
 
         // When
         UserInterestsResponse result = userService.addInterests(testUserId, newInterests);
 
         // Then
         assertThat(result).isNotNull();
-        assertThat(result.getInterests()).hasSize(2);
-        
-        // Verify findById is called once
-        verify(userRepository, times(1)).findById(testUserId);
-        
-        // Verify existsBy... is called once for each interest with the correct enum
-        verify(interestRepository, times(1)).existsByUserIdAndInterest(testUserId, Interest.RECYCLING);
-        verify(interestRepository, times(1)).existsByUserIdAndInterest(testUserId, Interest.WORKSHOP);
-        
-        // Verify saveAll is called once
-        verify(interestRepository, times(1)).saveAll(anyList());
+        assertThat(result.getInterests()).containsExactly("RECYCLING", "WORKSHOP");
+        verify(userRepository, times(1)).incrementVersion(testUserId);
+        verify(interestStore, times(1)).addInterests(testUserId, requested);
+        verify(interestIndex, never()).addInterests(any(), anySet());
+        verify(eventPublisher, times(1)).publishEvent(argThat((Object event) ->
+                event instanceof InterestsAddedEvent addedEvent && addedEvent.getInterests().equals(requested)));
+        verify(eventPublisher, times(1)).publishEvent(any(UserChangedEvent.class));
+        verify(profileCache, times(1)).put(testUserId, refreshed);
+        verify(profileCache, never()).evict(any());
+    }
+
+    @Test
+    void addInterests_ShouldKeepVersionAndIndex_WhenNothingAdded() {
+        // Given
+        when(userRepository.existsById(testUserId)).thenReturn(true);
+        when(interestStore.addInterests(eq(testUserId), anySet())).thenReturn(EnumSet.noneOf(Interest.class));
+
+        // When
+        UserInterestsResponse result = userService.addInterests(testUserId, List.of("RECYCLING"));
+
+        // Then: re-sending current interests must not invalidate ETags or caches
+        assertThat(result.getInterests()).isEmpty();
+        verify(userRepository, never()).incrementVersion(any());
+        verify(interestIndex, never()).addInterests(any(), anySet());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void addInterests_ShouldThrowException_WhenInterestUnknown() {
+        // Given
+        when(userRepository.existsById(testUserId)).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> userService.addInterests(testUserId, List.of("SKYDIVING")))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(interestStore, never()).addInterests(any(), anySet());
     }
 
     @Test
     void addInterests_ShouldThrowException_WhenUserNotFound() {
         // Given
         List<String> interests = Arrays.asList("RECYCLING");
-        when(userRepository.findById(testUserId)).thenReturn(Optional.empty());
+        when(userRepository.existsById(testUserId)).thenReturn(false);
 
         // When & Then
         assertThatThrownBy(() -> userService.addInterests(testUserId, interests))
                 .isInstanceOf(UserNotFoundException.class)
                 .hasMessageContaining("User with ID " + testUserId + " was not found.");
 
-        verify(interestRepository, never()).saveAll(anyList());
+        verify(interestStore, never()).addInterests(any(), anySet());
+    }
+
+    // ===== FIND BY INTEREST TESTS =====
+    @Test
+    void findUsersByInterests_ShouldQueryIndexWithParsedInterests() {
+        // Given
+        InterestMatchResponse page = InterestMatchResponse.builder().userIds(List.of(testUserId)).total(1).build();
+        UUID after = UUID.randomUUID();
+        when(interestIndex.find(EnumSet.of(Interest.TREE_PLANTING, Interest.CLEANUPS), InterestMatch.ALL, after, 20))
+                .thenReturn(page);
+
+        // When
+        InterestMatchResponse result = userService.findUsersByInterests(
+                List.of("tree_planting", "CLEANUPS"), InterestMatch.ALL, after.toString(), 20);
+
+        // Then
+        assertThat(result.getUserIds()).containsExactly(testUserId);
+    }
+
+    @Test
+    void findUsersByInterests_ShouldThrowException_WhenNoInterestsGiven() {
+        // When & Then
+        assertThatThrownBy(() -> userService.findUsersByInterests(List.of(), InterestMatch.ANY, null, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(interestIndex);
+    }
+
+    @Test
+    void findUsersByInterests_ShouldThrowException_WhenCursorMalformed() {
+        // When & Then
+        assertThatThrownBy(() -> userService.findUsersByInterests(List.of("CLEANUPS"), InterestMatch.ANY,
+                "not-a-uuid", 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor: not-a-uuid");
+
+        verifyNoInteractions(interestIndex);
+    }
+
+    // ===== SEARCH TESTS =====
+    @Test
+    void searchUsers_ShouldFetchOneExtraHit_ToDetectMorePages() {
+        // Given
+        UserSearchHit first = UserSearchHit.builder().id(testUserId).username("testuser").build();
+        UserSearchHit second = UserSearchHit.builder().id(UUID.randomUUID()).username("tester").build();
+        when(userSearchIndex.search("test", 2, 2)).thenReturn(List.of(first, second));
+
+        // When
+        UserSearchResponse result = userService.searchUsers("  test ", 2, 1);
+
+        // Then
+        assertThat(result.getUsers()).containsExactly(first);
+        assertThat(result.isHasMore()).isTrue();
+        assertThat(result.getPage()).isEqualTo(2);
+    }
+
+    @Test
+    void searchUsers_ShouldThrowException_WhenQueryBlankOrPageTooDeep() {
+        // When & Then
+        assertThatThrownBy(() -> userService.searchUsers("   ", 0, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> userService.searchUsers("test", Integer.MAX_VALUE, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(userSearchIndex);
     }
 
     // ===== HELPER METHODS =====
@@ -378,19 +665,13 @@ public class UserServiceTest {
                 .build();
     }
 
-    private List<UserInterest> createUserInterests() {
-        UserInterest interest1 = UserInterest.builder()
-                .id(UUID.randomUUID())
-                .user(testUser)
-                .interest(Interest.RECYCLING)
+    private UserResponse toResponse(User user) {
+        return UserResponse.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .username(user.getUsername())
+                .birthDate(user.getBirthDate())
+                .joinedDate(user.getJoinedDate())
                 .build();
-
-        UserInterest interest2 = UserInterest.builder()
-                .id(UUID.randomUUID())
-                .user(testUser)
-                .interest(Interest.TREE_PLANTING)
-                .build();
-
-        return Arrays.asList(interest1, interest2);
     }
-}
\ No newline at end of file
+}